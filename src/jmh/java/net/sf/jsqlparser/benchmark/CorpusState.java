@@ -0,0 +1,67 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import net.sf.jsqlparser.util.validation.Validation;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Holds the SQL texts of one {@link SqlCorpus} and their parsed statements, except for those which
+ * fail one of the benchmarked operations.
+ */
+@State(Scope.Benchmark)
+public class CorpusState {
+
+    @Param({"LARGE", "PERFORMANCE_ISSUE_1397", "ORACLE_TESTS"})
+    public SqlCorpus corpus;
+
+    public List<String> sqls;
+
+    public List<Statement> statements;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JSQLParserException {
+        sqls = corpus.load();
+        statements = new ArrayList<>();
+        for (String sql : sqls) {
+            for (Statement statement : CCJSqlParserUtil.parseStatements(sql, null, null)) {
+                if (isSupported(statement)) {
+                    statements.add(statement);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return TRUE when the statement can be de-parsed, searched for tables and validated
+     */
+    private static boolean isSupported(Statement statement) {
+        try {
+            statement.accept(new StatementDeParser(new StringBuilder()));
+            new TablesNamesFinder<>().getTables(statement);
+            Validation.validate(statement, JSqlParserBenchmark.VALIDATION_CONTEXT);
+            return true;
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.AsciiTokenManager;
+import net.sf.jsqlparser.parser.CCJSqlParserConstants;
+import net.sf.jsqlparser.parser.CCJSqlParserTokenManager;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.ParserPool;
+import net.sf.jsqlparser.parser.SimpleCharStream;
+import net.sf.jsqlparser.parser.StatementClassifier;
+import net.sf.jsqlparser.parser.StringProvider;
+import net.sf.jsqlparser.parser.Token;
+import net.sf.jsqlparser.parser.TokenMgrException;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import net.sf.jsqlparser.util.validation.Validation;
+import net.sf.jsqlparser.util.validation.ValidationContext;
+import net.sf.jsqlparser.util.validation.feature.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the time per pass over a {@link SqlCorpus}. Run with the {@code gc} profiler for the
+ * allocation rate, e.g. {@code gradle jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JSqlParserBenchmark {
+
+    static final ValidationContext VALIDATION_CONTEXT = Validation.createValidationContext(
+            new FeatureConfiguration(), Arrays.asList(DatabaseType.values()));
+    static final ParserPool PARSER_POOL = new ParserPool();
+    static final StatementClassifier CLASSIFIER = new StatementClassifier();
+
+    @Benchmark
+    public void parse(CorpusState state, Blackhole blackhole) throws JSQLParserException {
+        for (String sql : state.sqls) {
+            // parse within the benchmark thread
+            blackhole.consume(CCJSqlParserUtil.parseStatements(sql, null, null));
+        }
+    }
+
+    @Benchmark
+    public void parsePooled(CorpusState state, Blackhole blackhole) throws JSQLParserException {
+        for (String sql : state.sqls) {
+            blackhole.consume(PARSER_POOL.parseStatements(sql));
+        }
+    }
+
+    @Benchmark
+    public void check(CorpusState state, Blackhole blackhole) {
+        for (String sql : state.sqls) {
+            blackhole.consume(CCJSqlParserUtil.check(sql));
+        }
+    }
+
+    @Benchmark
+    public void lex(CorpusState state, Blackhole blackhole) {
+        for (String sql : state.sqls) {
+            lex(new CCJSqlParserTokenManager(new SimpleCharStream(new StringProvider(sql))),
+                    blackhole);
+        }
+    }
+
+    @Benchmark
+    public void lexAscii(CorpusState state, Blackhole blackhole) {
+        for (String sql : state.sqls) {
+            lex(new AsciiTokenManager(new SimpleCharStream(new StringProvider(sql))), blackhole);
+        }
+    }
+
+    @Benchmark
+    public void classify(CorpusState state, Blackhole blackhole) {
+        for (String sql : state.sqls) {
+            blackhole.consume(CLASSIFIER.classify(sql));
+        }
+    }
+
+    private static void lex(CCJSqlParserTokenManager tokenManager, Blackhole blackhole) {
+        try {
+            Token token;
+            do {
+                token = tokenManager.getNextToken();
+                blackhole.consume(token);
+            } while (token.kind != CCJSqlParserConstants.EOF);
+        } catch (TokenMgrException ex) {
+            blackhole.consume(ex);
+        }
+    }
+
+    @Benchmark
+    public void deparse(CorpusState state, Blackhole blackhole) {
+        for (Statement statement : state.statements) {
+            StringBuilder builder = new StringBuilder();
+            statement.accept(new StatementDeParser(builder));
+            blackhole.consume(builder);
+        }
+    }
+
+    @Benchmark
+    public void findTables(CorpusState state, Blackhole blackhole) {
+        for (Statement statement : state.statements) {
+            blackhole.consume(new TablesNamesFinder<>().getTables(statement));
+        }
+    }
+
+    @Benchmark
+    public void validate(CorpusState state, Blackhole blackhole) {
+        for (Statement statement : state.statements) {
+            blackhole.consume(Validation.validate(statement, VALIDATION_CONTEXT));
+        }
+    }
+}
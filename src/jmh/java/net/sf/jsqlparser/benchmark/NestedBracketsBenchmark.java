@@ -0,0 +1,80 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.feature.ParsingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures complex parsing of statements nested in brackets, whose time grew exponentially with
+ * the depth of the nesting before the syntactic lookaheads were memoized. The time per pass should
+ * grow with the depth polynomially only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NestedBracketsBenchmark {
+
+    @Param({"4", "8", "12", "16", "32"})
+    public int depth;
+
+    public List<String> sqls;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sqls = Arrays.asList(
+                "SELECT " + nest("(", "1", ")"),
+                "SELECT * FROM t WHERE " + nest("(", "a = 1", ")"),
+                "SELECT " + nest("(1 + ", "1", ")"),
+                "SELECT " + nest("f(", "1", ")"),
+                "SELECT * FROM t WHERE a IN " + nest("(SELECT b FROM c WHERE d IN ", "(1)", ")"));
+    }
+
+    private String nest(String opening, String innermost, String closing) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            builder.append(opening);
+        }
+        builder.append(innermost);
+        for (int i = 0; i < depth; i++) {
+            builder.append(closing);
+        }
+        return builder.toString();
+    }
+
+    @Benchmark
+    public void parseComplex(Blackhole blackhole) throws JSQLParserException {
+        for (String sql : sqls) {
+            blackhole.consume(CCJSqlParserUtil.parse(sql, parser -> parser
+                    .withParsingStrategy(ParsingStrategy.COMPLEX_ONLY).withTimeOut(60000)));
+        }
+    }
+}
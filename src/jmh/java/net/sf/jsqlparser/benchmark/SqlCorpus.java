@@ -0,0 +1,92 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+
+/**
+ * The SQL texts of the test resources, which the benchmarks run on. Only texts, which can be parsed,
+ * are part of the corpus, so all benchmarks measure the same work.
+ */
+public enum SqlCorpus {
+    /**
+     * the {@code large-sql-issue-*.txt} files
+     */
+    LARGE("large-sql-issue-"),
+
+    /**
+     * the {@code performanceIssue1397.sql} file
+     */
+    PERFORMANCE_ISSUE_1397("performanceIssue1397.sql"),
+
+    /**
+     * the {@code oracle-tests/*.sql} files
+     */
+    ORACLE_TESTS("oracle-tests/");
+
+    /**
+     * The directory of the SQL files, which can be overridden by the
+     * {@code jsqlparser.corpus.dir} system property.
+     */
+    public static final Path DIRECTORY = Paths.get(System.getProperty("jsqlparser.corpus.dir",
+            "src/test/resources/net/sf/jsqlparser/statement/select"));
+
+    private final String prefix;
+
+    SqlCorpus(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * @return the SQL texts of the corpus, which can be parsed
+     */
+    public List<String> load() {
+        Path directory = prefix.endsWith("/") ? DIRECTORY.resolve(prefix) : DIRECTORY;
+        String fileNamePrefix = prefix.endsWith("/") ? "" : prefix;
+
+        List<String> sqls = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(Files::isRegularFile)
+                    .filter(f -> f.getFileName().toString().startsWith(fileNamePrefix))
+                    .sorted().collect(Collectors.toList())) {
+                String sql = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                if (canParse(sql)) {
+                    sqls.add(sql);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Can't read the corpus from " + directory, ex);
+        }
+        if (sqls.isEmpty()) {
+            throw new IllegalStateException("No SQL found in " + directory);
+        }
+        return sqls;
+    }
+
+    private static boolean canParse(String sql) {
+        try {
+            return CCJSqlParserUtil.parseStatements(sql, null, null) != null;
+        } catch (JSQLParserException ex) {
+            return false;
+        }
+    }
+}
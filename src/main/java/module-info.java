@@ -11,6 +11,7 @@ module net.sf.jsqlparser {
     requires java.sql;
     requires java.logging;
     requires java.desktop;
+    requires jdk.unsupported;
 
     exports net.sf.jsqlparser;
     exports net.sf.jsqlparser.expression;
@@ -54,6 +54,15 @@ public class DoubleValue extends ASTNodeAccessImpl implements Expression {
         stringValue = String.valueOf(value);
     }
 
+    public String getStringValue() {
+        return stringValue;
+    }
+
+    public void setStringValue(String string) {
+        value = Double.parseDouble(string);
+        stringValue = string;
+    }
+
     @Override
     public String toString() {
         return stringValue;
@@ -16,6 +16,7 @@ import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
 import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseRightShift;
 import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
 import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.MultiConcat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Division;
 import net.sf.jsqlparser.expression.operators.arithmetic.IntegerDivision;
 import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
@@ -63,6 +64,8 @@ import net.sf.jsqlparser.statement.select.AllTableColumns;
 import net.sf.jsqlparser.statement.select.FunctionAllColumns;
 import net.sf.jsqlparser.statement.select.ParenthesedSelect;
 import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
 
 public interface ExpressionVisitor<T> {
 
@@ -204,6 +207,18 @@ public interface ExpressionVisitor<T> {
         this.visit(xorExpression, null);
     }
 
+    <S> T visit(MultiAndExpression multiAndExpression, S context);
+
+    default void visit(MultiAndExpression multiAndExpression) {
+        this.visit(multiAndExpression, null);
+    }
+
+    <S> T visit(MultiOrExpression multiOrExpression, S context);
+
+    default void visit(MultiOrExpression multiOrExpression) {
+        this.visit(multiOrExpression, null);
+    }
+
     <S> T visit(Between between, S context);
 
     default void visit(Between between) {
@@ -362,6 +377,12 @@ public interface ExpressionVisitor<T> {
         this.visit(concat, null);
     }
 
+    <S> T visit(MultiConcat multiConcat, S context);
+
+    default void visit(MultiConcat multiConcat) {
+        this.visit(multiConcat, null);
+    }
+
     <S> T visit(Matches matches, S context);
 
     default void visit(Matches matches) {
@@ -19,6 +19,7 @@ import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Division;
 import net.sf.jsqlparser.expression.operators.arithmetic.IntegerDivision;
 import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.MultiConcat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
 import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
@@ -72,6 +73,8 @@ import net.sf.jsqlparser.statement.select.SelectItemVisitor;
 import net.sf.jsqlparser.statement.select.SelectVisitor;
 import net.sf.jsqlparser.statement.select.UnPivot;
 import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -204,6 +207,16 @@ public class ExpressionVisitorAdapter<T>
         return visitBinaryExpression(xorExpression, context);
     }
 
+    @Override
+    public <S> T visit(MultiAndExpression multiAndExpression, S context) {
+        return visitExpressions(multiAndExpression, context, multiAndExpression.getList());
+    }
+
+    @Override
+    public <S> T visit(MultiOrExpression multiOrExpression, S context) {
+        return visitExpressions(multiOrExpression, context, multiOrExpression.getList());
+    }
+
     @Override
     public <S> T visit(Between between, S context) {
         return visitExpressions(between, context, between.getLeftExpression(),
@@ -360,6 +373,12 @@ public class ExpressionVisitorAdapter<T>
         return visitBinaryExpression(concat, context);
     }
 
+    @Override
+    public <S> T visit(MultiConcat multiConcat, S context) {
+        return visitExpressions(multiConcat, context,
+                (ExpressionList<?>) multiConcat.getExpressions());
+    }
+
     @Override
     public <S> T visit(Matches matches, S context) {
         return visitBinaryExpression(matches, context);
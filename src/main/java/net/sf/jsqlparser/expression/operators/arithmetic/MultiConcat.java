@@ -0,0 +1,86 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.expression.operators.arithmetic;
+
+import java.util.List;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
+
+/**
+ * A chain of concatenations as one node with all its operands, instead of a {@link Concat} nested
+ * in the left operand of the next. Built by the parser, when
+ * {@link net.sf.jsqlparser.parser.feature.Feature#flatOperators} is set.
+ */
+public class MultiConcat extends ASTNodeAccessImpl implements Expression {
+
+    private ExpressionList<Expression> expressions;
+
+    public MultiConcat() {
+        this(new ExpressionList<>());
+    }
+
+    public MultiConcat(ExpressionList<Expression> expressions) {
+        this.expressions = expressions;
+    }
+
+    public MultiConcat(List<Expression> expressions) {
+        this(new ExpressionList<>(expressions));
+    }
+
+    public MultiConcat(Expression... expressions) {
+        this(new ExpressionList<>(expressions));
+    }
+
+    public ExpressionList<Expression> getExpressions() {
+        return expressions;
+    }
+
+    public void setExpressions(ExpressionList<Expression> expressions) {
+        this.expressions = expressions;
+    }
+
+    public MultiConcat withExpressions(ExpressionList<Expression> expressions) {
+        this.setExpressions(expressions);
+        return this;
+    }
+
+    public MultiConcat addExpression(Expression expression) {
+        expressions.add(expression);
+        return this;
+    }
+
+    public int size() {
+        return expressions.size();
+    }
+
+    @Override
+    public <T, S> T accept(ExpressionVisitor<T> expressionVisitor, S context) {
+        return expressionVisitor.visit(this, context);
+    }
+
+    public String getStringExpression() {
+        return "||";
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < expressions.size(); i++) {
+            if (i > 0) {
+                builder.append(" ").append(getStringExpression()).append(" ");
+            }
+            builder.append(expressions.get(i));
+        }
+        return builder.toString();
+    }
+}
@@ -11,6 +11,7 @@ package net.sf.jsqlparser.parser;
 
 import net.sf.jsqlparser.parser.feature.Feature;
 import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.parser.feature.ParsingStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +21,7 @@ public abstract class AbstractJSqlParser<P> {
     protected int jdbcParameterIndex = 0;
     protected boolean errorRecovery = false;
     protected List<ParseException> parseErrors = new ArrayList<>();
+    protected SqlEventHandler eventHandler = null;
 
     public P withSquareBracketQuotation() {
         return withFeature(Feature.allowSquareBracketQuotation, true);
@@ -73,16 +75,49 @@ public abstract class AbstractJSqlParser<P> {
         return withFeature(Feature.allowUnparenthesizedSubSelects, allowUnparenthesizedSubSelects);
     }
 
+    public P withRetainAstNodes(boolean retainAstNodes) {
+        return withFeature(Feature.retainAstNodes, retainAstNodes);
+    }
+
+    public P withLazyParsing(boolean lazyParsing) {
+        return withFeature(Feature.lazyParsing, lazyParsing);
+    }
+
+    public P withFlatOperators(boolean flatOperators) {
+        return withFeature(Feature.flatOperators, flatOperators);
+    }
+
+    public P withMaxTokens(long maxTokens) {
+        return withFeature(Feature.maxTokens, maxTokens);
+    }
+
+    public P withMaxLookaheadSteps(long maxLookaheadSteps) {
+        return withFeature(Feature.maxLookaheadSteps, maxLookaheadSteps);
+    }
+
+    public P withMaxDepth(long maxDepth) {
+        return withFeature(Feature.maxDepth, maxDepth);
+    }
+
+    public P withParsingStrategy(ParsingStrategy parsingStrategy) {
+        return withConfiguration(getConfiguration().with(Feature.parsingStrategy, parsingStrategy));
+    }
+
     public P withFeature(Feature f, boolean enabled) {
-        getConfiguration().setValue(f, enabled);
-        return me();
+        return withConfiguration(getConfiguration().with(f, enabled));
     }
 
     public P withFeature(Feature f, long value) {
-        getConfiguration().setValue(f, value);
-        return me();
+        return withConfiguration(getConfiguration().with(f, value));
     }
 
+    /**
+     * @param configuration the configuration, which may be a frozen one shared with other parsers
+     * @return this parser
+     * @see FeatureConfiguration#freeze()
+     */
+    public abstract P withConfiguration(FeatureConfiguration configuration);
+
     public abstract FeatureConfiguration getConfiguration();
 
     public abstract P me();
@@ -95,6 +130,14 @@ public abstract class AbstractJSqlParser<P> {
         return getConfiguration().getAsLong(f);
     }
 
+    public ParsingStrategy getParsingStrategy() {
+        return getConfiguration().getAsEnum(Feature.parsingStrategy, ParsingStrategy.class);
+    }
+
+    public boolean isErrorRecovery() {
+        return errorRecovery;
+    }
+
     public void setErrorRecovery(boolean errorRecovery) {
         this.errorRecovery = errorRecovery;
     }
@@ -112,4 +155,18 @@ public abstract class AbstractJSqlParser<P> {
     public List<ParseException> getParseErrors() {
         return parseErrors;
     }
+
+    public SqlEventHandler getEventHandler() {
+        return eventHandler;
+    }
+
+    /**
+     * @param eventHandler the handler to tell the tables, columns, functions and parameters
+     *        while parsing, or <code>null</code>
+     * @return this parser
+     */
+    public P withEventHandler(SqlEventHandler eventHandler) {
+        this.eventHandler = eventHandler;
+        return me();
+    }
 }
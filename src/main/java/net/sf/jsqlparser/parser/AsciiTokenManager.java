@@ -0,0 +1,438 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A token manager with a hand written scanner for the common tokens of plain ASCII text: white
+ * space, unquoted identifiers and keywords, integers and the simple punctuation. Everything else,
+ * like quoted identifiers, string literals, comments, decimals, operators which may contain white
+ * space, tokens made of several words and any non ASCII input, falls back to the generated Unicode
+ * DFA. The tokens are the very same the {@link CCJSqlParserTokenManager} produces.
+ * <p>
+ * Keywords are looked up in a perfect hash table, which is built from the keywords of the grammar
+ * when this class is loaded. The kind of each keyword is determined by the generated DFA itself, so
+ * the table can't disagree with the grammar about the keywords it contains.
+ *
+ * <pre>
+ * CCJSqlParser parser = new CCJSqlParser(
+ *         new AsciiTokenManager(new SimpleCharStream(new StringProvider(sql))));
+ * </pre>
+ */
+public class AsciiTokenManager extends CCJSqlParserTokenManager {
+
+    /**
+     * The words of tokens, which are defined by alternatives or by private tokens, so their images
+     * are not found in {@link CCJSqlParserConstants#tokenImage}.
+     */
+    private static final String[] COMPOSITE_WORDS = {"BIGINT", "BLOB", "BOOL", "BOOLEAN",
+            "BPCHAR", "BYTEA", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP",
+            "CURRENT_TIMEZONE", "DATE", "DATETIME", "DAY", "DECIMAL", "DOUBLE", "FLOAT", "FLOAT4",
+            "FLOAT64", "FLOAT8", "HOUR", "INT", "INT1", "INT2", "INT4", "INT8", "INTEGER", "LONG",
+            "MINUTE", "MONTH", "NCHAR", "NEXTVAL", "NUMBER", "NUMERIC", "NVARCHAR", "OVERLAY",
+            "POSITION", "PRECISION", "REAL", "SECOND", "SEL", "SELECT", "SHORT", "SMALLINT",
+            "SUBSTR", "SUBSTRING", "TIME", "TIMESTAMP", "TIMESTAMPTZ", "TIMESTAMP_MS",
+            "TIMESTAMP_NS", "TIMESTAMP_S", "TINYINT", "VARBINARY", "VARCHAR", "VARYING", "YEAR"};
+
+    /**
+     * The words which may continue with white space into a longer token, like {@code NEXT VALUE
+     * FOR} or {@code SIMILAR TO}, besides the first words of the literals containing a blank.
+     */
+    private static final String[] PREFIX_WORDS = {"NEXT", "NEXTVAL", "SIMILAR"};
+
+    /**
+     * The beginnings of words, which may continue with white space or a bracket into a longer
+     * token, like {@code TIMESTAMP(3) WITH TIME ZONE} or {@code CURRENT TIMESTAMP()}.
+     */
+    private static final String[] PREFIX_BEGINNINGS = {"CURRENT", "DATE", "TIME"};
+
+    private static final boolean[] PART_LETTER = new boolean[128];
+    private static final int[] PUNCTUATION_KIND = new int[128];
+    /** the characters following a punctuation, which may make it a longer token */
+    private static final long[][] PUNCTUATION_FOLLOWERS = new long[128][2];
+    private static final KeywordTable KEYWORDS;
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            PART_LETTER[c] = true;
+            PART_LETTER[Character.toLowerCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            PART_LETTER[c] = true;
+        }
+        for (char c : "$#_@".toCharArray()) {
+            PART_LETTER[c] = true;
+        }
+
+        Arrays.fill(PUNCTUATION_KIND, -1);
+        List<String> literals = new ArrayList<>();
+        Set<String> prefixWords = new LinkedHashSet<>(Arrays.asList(PREFIX_WORDS));
+        Set<String> words = new LinkedHashSet<>(Arrays.asList(COMPOSITE_WORDS));
+        for (int kind = 0; kind < tokenImage.length; kind++) {
+            String image = tokenImage[kind];
+            if (image.length() < 3 || image.charAt(0) != '"') {
+                continue;
+            }
+            String literal = image.substring(1, image.length() - 1);
+            if (isWordStart(literal.charAt(0))) {
+                int blank = literal.indexOf(' ');
+                if (blank > 0) {
+                    prefixWords.add(literal.substring(0, blank).toUpperCase(Locale.ROOT));
+                } else {
+                    words.add(literal.toUpperCase(Locale.ROOT));
+                }
+            } else if (literal.length() == 1) {
+                PUNCTUATION_KIND[literal.charAt(0)] = kind;
+            } else {
+                literals.add(literal);
+            }
+        }
+        for (String literal : literals) {
+            addFollower(literal.charAt(0), Character.toUpperCase(literal.charAt(1)));
+            addFollower(literal.charAt(0), Character.toLowerCase(literal.charAt(1)));
+        }
+
+        // the beginnings of quoted identifiers, string literals, parameters and statement separators
+        for (char c : "'\"`[$#;\\".toCharArray()) {
+            PUNCTUATION_KIND[c] = -1;
+        }
+        // decimals like .5 and comments
+        for (char c = '0'; c <= '9'; c++) {
+            addFollower('.', c);
+        }
+        addFollower('-', '-');
+        addFollower('/', '/');
+        addFollower('/', '*');
+        // the operators which may contain white space, like > =
+        for (char c : "<>!^|".toCharArray()) {
+            for (char follower : " \t\r\n=>|".toCharArray()) {
+                addFollower(c, follower);
+            }
+        }
+
+        words.addAll(prefixWords);
+        KEYWORDS = new KeywordTable(words, prefixWords);
+    }
+
+    private final char[] word = new char[KEYWORDS.maxLength];
+
+    public AsciiTokenManager(SimpleCharStream stream) {
+        super(stream);
+    }
+
+    public AsciiTokenManager(SimpleCharStream stream, int lexState) {
+        super(stream, lexState);
+    }
+
+    private static boolean isWordStart(int c) {
+        return c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c == '_';
+    }
+
+    private static char toUpperCase(int c) {
+        return (char) (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c);
+    }
+
+    private static void addFollower(char c, char follower) {
+        if (follower < 128) {
+            PUNCTUATION_FOLLOWERS[c][follower >> 6] |= 1L << follower;
+        }
+    }
+
+    private static boolean isFollower(int c, int follower) {
+        return follower >= 0 && follower < 128
+                && (PUNCTUATION_FOLLOWERS[c][follower >> 6] & 1L << follower) != 0;
+    }
+
+    @Override
+    public Token getNextToken() {
+        int c = beginToken();
+        Token token = null;
+        if (isWordStart(c)) {
+            token = scanWord(c);
+        } else if (c >= '0' && c <= '9') {
+            token = scanInteger();
+        } else if (c >= 0 && c < 128 && PUNCTUATION_KIND[c] >= 0) {
+            token = scanPunctuation(c);
+        } else if (c >= 0) {
+            input_stream.backup(1);
+        }
+        return token != null ? token : super.getNextToken();
+    }
+
+    /**
+     * Skips the white space and begins the next token.
+     *
+     * @return the first character of the token, or -1 when the generated token manager continues
+     *         at the end of the input or at a new line, which may begin a statement separator like
+     *         \n/\n
+     */
+    private int beginToken() {
+        int c;
+        do {
+            try {
+                c = input_stream.BeginToken();
+            } catch (IOException ex) {
+                return -1;
+            }
+            if (c == '\n') {
+                int next = read();
+                if (next >= 0) {
+                    input_stream.backup(1);
+                    if (next == '\n' || next == '/' || next == 'g' || next == 'G') {
+                        input_stream.backup(1);
+                        return -1;
+                    }
+                }
+            }
+        } while (c == ' ' || c == '\t' || c == '\r' || c == '\n');
+        return c;
+    }
+
+    /**
+     * @return the next character, or -1 at the end of the input
+     */
+    private int read() {
+        try {
+            return input_stream.readChar();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the rest of a word. When the token is not complete yet, the input is reset to the
+     * beginning of the token and <code>null</code> is returned.
+     */
+    private Token scanWord(int first) {
+        char[] chars = word;
+        chars[0] = toUpperCase(first);
+        int hash = chars[0];
+        int length = 1;
+        int c;
+        while ((c = read()) >= 0 && c < 128 && PART_LETTER[c]) {
+            char upper = toUpperCase(c);
+            if (length < chars.length) {
+                chars[length] = upper;
+            }
+            hash = 31 * hash + upper;
+            length++;
+        }
+        if (c >= 0) {
+            input_stream.backup(1);
+        }
+        // non ASCII letters belong to the identifier and quotes begin prefixed string literals
+        if (c >= 128 || c == '\'') {
+            input_stream.backup(length);
+            return null;
+        }
+
+        int entry = KEYWORDS.find(chars, length, hash);
+        int kind = entry >= 0 ? KEYWORDS.getKind(entry) : S_IDENTIFIER;
+        boolean continued = c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '(';
+        if (kind < 0 || continued && (entry >= 0 && KEYWORDS.isPrefix(entry)
+                || hasPrefixBeginning(chars, length))) {
+            input_stream.backup(length);
+            return null;
+        }
+        return newToken(kind);
+    }
+
+    private static boolean hasPrefixBeginning(char[] chars, int length) {
+        for (String beginning : PREFIX_BEGINNINGS) {
+            int i = 0;
+            while (i < beginning.length() && i < length && chars[i] == beginning.charAt(i)) {
+                i++;
+            }
+            if (i == beginning.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Token scanInteger() {
+        int length = 1;
+        int c;
+        while ((c = read()) >= '0' && c <= '9') {
+            length++;
+        }
+        if (c >= 0) {
+            input_stream.backup(1);
+        }
+        // decimals, hexadecimals and identifiers beginning with digits
+        if (c >= 128 || c == '.' || c >= 0 && PART_LETTER[c]) {
+            input_stream.backup(length);
+            return null;
+        }
+        return newToken(S_LONG);
+    }
+
+    private Token scanPunctuation(int c) {
+        int next = read();
+        if (next >= 0) {
+            input_stream.backup(1);
+        }
+        if (isFollower(c, next)) {
+            input_stream.backup(1);
+            return null;
+        }
+        return newToken(PUNCTUATION_KIND[c]);
+    }
+
+    /**
+     * Fills the token just like the generated token manager does.
+     */
+    private Token newToken(int kind) {
+        String image = jjstrLiteralImages[kind];
+        Token token = Token.newToken(kind, image == null ? input_stream.GetImage() : image);
+        token.beginLine = input_stream.getBeginLine();
+        token.beginColumn = input_stream.getBeginColumn();
+        token.endLine = input_stream.getEndLine();
+        token.endColumn = input_stream.getEndColumn();
+        CommonTokenAction(token);
+        return token;
+    }
+
+    /**
+     * A perfect hash table of the upper case keywords. The hash of a word selects a bucket, and the
+     * seed of the bucket selects the slot of the word, where the seeds have been chosen for all the
+     * words to have slots of their own.
+     */
+    static final class KeywordTable {
+        final int maxLength;
+        private final int[] seeds;
+        private final char[][] words;
+        private final int[] kinds;
+        private final boolean[] prefixes;
+
+        KeywordTable(Set<String> candidates, Set<String> prefixWords) {
+            CCJSqlParserTokenManager tokenManager =
+                    new CCJSqlParserTokenManager(new SimpleCharStream(new StringProvider("")));
+            List<String> keywords = new ArrayList<>();
+            List<Integer> keywordKinds = new ArrayList<>();
+            int length = 1;
+            for (String candidate : candidates) {
+                tokenManager.ReInit(new SimpleCharStream(new StringProvider(candidate)));
+                Token token = tokenManager.getNextToken();
+                boolean prefix = prefixWords.contains(candidate);
+                if (token.kind != S_IDENTIFIER || prefix) {
+                    keywords.add(candidate);
+                    // a word, which is only the beginning of a token, is left to the DFA
+                    keywordKinds.add(token.image.length() == candidate.length() ? token.kind : -1);
+                    length = Math.max(length, candidate.length());
+                }
+            }
+            maxLength = length;
+
+            int slotCount = Integer.highestOneBit(keywords.size() * 2 - 1) << 1;
+            seeds = new int[slotCount / 4];
+            words = new char[slotCount][];
+            kinds = new int[slotCount];
+            prefixes = new boolean[slotCount];
+
+            List<List<Integer>> buckets = new ArrayList<>();
+            for (int i = 0; i < seeds.length; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            for (int i = 0; i < keywords.size(); i++) {
+                buckets.get(getBucket(keywords.get(i).hashCode())).add(i);
+            }
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < seeds.length; i++) {
+                order.add(i);
+            }
+            order.sort(Comparator.comparingInt((Integer i) -> buckets.get(i).size()).reversed());
+
+            for (int bucket : order) {
+                seeds[bucket] = findSeed(keywords, buckets.get(bucket));
+                for (int i : buckets.get(bucket)) {
+                    String keyword = keywords.get(i);
+                    int slot = getSlot(keyword.hashCode(), seeds[bucket]);
+                    words[slot] = keyword.toCharArray();
+                    kinds[slot] = keywordKinds.get(i);
+                    prefixes[slot] = prefixWords.contains(keyword);
+                }
+            }
+        }
+
+        private int findSeed(List<String> keywords, List<Integer> bucket) {
+            boolean[] taken = new boolean[words.length];
+            for (int seed = 0; seed < 1 << 24; seed++) {
+                Arrays.fill(taken, false);
+                boolean free = true;
+                for (int i = 0; i < bucket.size() && free; i++) {
+                    int slot = getSlot(keywords.get(bucket.get(i)).hashCode(), seed);
+                    free = words[slot] == null && !taken[slot];
+                    taken[slot] = true;
+                }
+                if (free) {
+                    return seed;
+                }
+            }
+            throw new IllegalStateException("No perfect hash found for the keywords.");
+        }
+
+        private static int mix(int hash) {
+            int h = hash;
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            return h ^ h >>> 16;
+        }
+
+        private int getBucket(int hash) {
+            return mix(hash) & seeds.length - 1;
+        }
+
+        private int getSlot(int hash, int seed) {
+            return mix(hash ^ seed * 0x9e3779b9) & words.length - 1;
+        }
+
+        /**
+         * @param chars the upper case characters of the word
+         * @param length the length of the word
+         * @param hash the {@link String#hashCode()} of the word
+         * @return the entry of the keyword, or -1 when the word is no keyword
+         */
+        int find(char[] chars, int length, int hash) {
+            if (length > maxLength) {
+                return -1;
+            }
+            int slot = getSlot(hash, seeds[getBucket(hash)]);
+            char[] keyword = words[slot];
+            if (keyword == null || keyword.length != length) {
+                return -1;
+            }
+            for (int i = 0; i < length; i++) {
+                if (keyword[i] != chars[i]) {
+                    return -1;
+                }
+            }
+            return slot;
+        }
+
+        int getKind(int entry) {
+            return kinds[entry];
+        }
+
+        boolean isPrefix(int entry) {
+            return prefixes[entry];
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseLeftShift;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseRightShift;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.MultiConcat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+
+/**
+ * Builds the trees of the binary operators parsed by one precedence climbing loop of the parser,
+ * instead of one production per precedence level. The operands and operators are pushed as they
+ * are read; an operator binds the operands pushed before it, as long as it has no lower precedence
+ * than the ones pushed before. So all operators are left associative, and neither the parsing nor
+ * the building recurses.
+ * <p>
+ * The precedences, from the lowest to the highest:
+ * <ol>
+ * <li>XOR, OR, AND</li>
+ * <li>concatenation, bitwise OR, bitwise AND and the shifts, addition and subtraction,
+ * multiplication, division and modulo, bitwise XOR</li>
+ * </ol>
+ * The conditional operators are parsed apart from the arithmetic ones, the conditions between
+ * them are their operands.
+ * <p>
+ * With flat operators, the chains of AND (but not &amp;&amp;), OR and || become one n-ary node
+ * each.
+ */
+final class BinaryExpressionStack {
+    private final ArrayList<Expression> operands = new ArrayList<>();
+    private final ArrayList<BinaryExpression> operators = new ArrayList<>();
+    private final boolean flatOperators;
+
+    BinaryExpressionStack(Expression operand, boolean flatOperators) {
+        operands.add(operand);
+        this.flatOperators = flatOperators;
+    }
+
+    /**
+     * Pushes the operator and its right operand, after binding the operators pushed before with
+     * the same or a higher precedence.
+     *
+     * @param operator the operator without operands
+     * @param operand its right operand
+     * @return this stack
+     */
+    BinaryExpressionStack push(BinaryExpression operator, Expression operand) {
+        reduce(precedence(operator));
+        operators.add(operator);
+        operands.add(operand);
+        return this;
+    }
+
+    /**
+     * @return the tree of all the operators pushed
+     */
+    Expression build() {
+        reduce(Integer.MIN_VALUE);
+        return operands.get(0);
+    }
+
+    private void reduce(int precedence) {
+        int size = operators.size();
+        while (size > 0 && precedence(operators.get(size - 1)) >= precedence) {
+            BinaryExpression operator = operators.remove(--size);
+            Expression right = operands.remove(operands.size() - 1);
+            int last = operands.size() - 1;
+            operands.set(last, bind(operator, operands.get(last), right));
+        }
+    }
+
+    private Expression bind(BinaryExpression operator, Expression left, Expression right) {
+        if (flatOperators) {
+            // a left operand of the same kind is the chain so far, the parenthesised ones are
+            // wrapped
+            if (operator instanceof AndExpression && !((AndExpression) operator).isUseOperator()) {
+                if (left instanceof MultiAndExpression) {
+                    ((MultiAndExpression) left).getList().add(right);
+                    return left;
+                }
+                return new MultiAndExpression(newList(left, right));
+            } else if (operator instanceof OrExpression) {
+                if (left instanceof MultiOrExpression) {
+                    ((MultiOrExpression) left).getList().add(right);
+                    return left;
+                }
+                return new MultiOrExpression(newList(left, right));
+            } else if (operator instanceof Concat) {
+                if (left instanceof MultiConcat) {
+                    return ((MultiConcat) left).addExpression(right);
+                }
+                return new MultiConcat(newList(left, right));
+            }
+        }
+        operator.setLeftExpression(left);
+        operator.setRightExpression(right);
+        return operator;
+    }
+
+    private static List<Expression> newList(Expression left, Expression right) {
+        List<Expression> expressions = new ArrayList<>();
+        expressions.add(left);
+        expressions.add(right);
+        return expressions;
+    }
+
+    static int precedence(BinaryExpression operator) {
+        if (operator instanceof XorExpression) {
+            return 0;
+        } else if (operator instanceof OrExpression) {
+            return 1;
+        } else if (operator instanceof AndExpression) {
+            return 2;
+        } else if (operator instanceof Concat) {
+            return 10;
+        } else if (operator instanceof BitwiseOr || operator instanceof BitwiseAnd
+                || operator instanceof BitwiseLeftShift
+                || operator instanceof BitwiseRightShift) {
+            return 11;
+        } else if (operator instanceof Addition || operator instanceof Subtraction) {
+            return 12;
+        } else if (operator instanceof BitwiseXor) {
+            return 14;
+        }
+        // multiplication, division, integer division and modulo
+        return 13;
+    }
+}
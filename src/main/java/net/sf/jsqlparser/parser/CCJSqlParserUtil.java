@@ -12,22 +12,39 @@ package net.sf.jsqlparser.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Stack;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.ParsingStrategy;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.Statements;
 
@@ -42,22 +59,152 @@ public final class CCJSqlParserUtil {
     public final static Logger LOGGER = Logger.getLogger(CCJSqlParserUtil.class.getName());
     public final static int ALLOWED_NESTING_DEPTH = 10;
 
+    /**
+     * Idle threads of the shared Executor Service are released after this many seconds.
+     */
+    public final static long EXECUTOR_KEEP_ALIVE_SECONDS = 60L;
+
+    private static volatile ExecutorService executorService;
+
     static {
         LOGGER.setLevel(Level.OFF);
     }
 
     private CCJSqlParserUtil() {}
 
+    /**
+     * Returns the shared Executor Service used for enforcing {@link Feature#timeOut} when no
+     * explicit Executor Service is handed over. It is created lazily and re-created when it has
+     * been shut down before.
+     * <p>
+     * The default implementation is a pool of daemon threads, one per available processor. Parse
+     * requests never queue behind each other (the time out would include the waiting time
+     * otherwise): when all threads are busy, the request is parsed within the calling thread
+     * instead, where the time out is enforced cooperatively. So the pool stays bounded under any
+     * load, and a parse which has timed out stops by itself and frees its thread. A request racing
+     * with {@link #shutdownExecutorService()} or {@link #setExecutorService(ExecutorService)} is
+     * parsed within the calling thread as well. Idle threads are released after
+     * {@link #EXECUTOR_KEEP_ALIVE_SECONDS}.
+     *
+     * @return the shared Executor Service, never <code>null</code>
+     */
+    public static ExecutorService getExecutorService() {
+        ExecutorService service = executorService;
+        if (service == null || service.isShutdown()) {
+            synchronized (CCJSqlParserUtil.class) {
+                service = executorService;
+                if (service == null || service.isShutdown()) {
+                    service = newExecutorService();
+                    executorService = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    /**
+     * Replaces the shared Executor Service, e.g. by a bounded pool or by a virtual thread per task
+     * executor. The previous Executor Service will be shut down gracefully.
+     *
+     * @param service the Executor Service to use, <code>null</code> restores the default
+     */
+    public static void setExecutorService(ExecutorService service) {
+        ExecutorService previous;
+        synchronized (CCJSqlParserUtil.class) {
+            previous = executorService;
+            executorService = service;
+        }
+        if (previous != null && previous != service) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Shuts down the shared Executor Service gracefully: running parses will complete, but no new
+     * ones are accepted. A subsequent parse call will create a new Executor Service.
+     */
+    public static void shutdownExecutorService() {
+        setExecutorService(null);
+    }
+
+    private static ExecutorService newExecutorService() {
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadFactory threadFactory = new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread =
+                        new Thread(runnable, "jsqlparser-" + threadNumber.getAndIncrement());
+                // never prevent the JVM from exiting
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+                EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                threadFactory, new CallerAlwaysRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Runs the rejected parse within the calling thread, even when the pool has been shut down
+     * meanwhile: the CallerRunsPolicy would discard it then, and the caller would wait for it until
+     * the time out.
+     */
+    private static final class CallerAlwaysRunsPolicy extends ThreadPoolExecutor.CallerRunsPolicy {
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor pool) {
+            runnable.run();
+        }
+    }
+
     public static Statement parse(Reader statementReader) throws JSQLParserException {
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        Statement statement = null;
         CCJSqlParser parser = new CCJSqlParser(new StreamProvider(statementReader));
+        return parseStatement(parser, getExecutorService());
+    }
+
+    /**
+     * Parses the statement of an UTF-8 encoded file.
+     *
+     * @see #parse(Path, Charset, Consumer)
+     */
+    public static Statement parse(Path path) throws JSQLParserException {
+        return parse(path, StandardCharsets.UTF_8, null);
+    }
+
+    /**
+     * Parses the statement of a file, which is memory mapped and decoded incrementally instead of
+     * being read into a String (see {@link MappedFileProvider}). Since the text is not at hand, the
+     * statement is parsed once in the configured mode (see {@link Feature#allowComplexParsing}).
+     *
+     * @param path the file
+     * @param charset the encoding of the file
+     * @param consumer the consumer for configuring the parser, or <code>null</code>
+     * @return the parsed statement
+     * @throws JSQLParserException when the file can't be read or the statement can't be parsed
+     */
+    public static Statement parse(Path path, Charset charset, Consumer<CCJSqlParser> consumer)
+            throws JSQLParserException {
+        MappedFileProvider provider;
         try {
-            statement = parseStatement(parser, executorService);
+            provider = new MappedFileProvider(path, charset);
+        } catch (IOException ex) {
+            throw new JSQLParserException(ex);
+        }
+        try {
+            CCJSqlParser parser = new CCJSqlParser(provider);
+            if (consumer != null) {
+                consumer.accept(parser);
+            }
+            return parseStatement(parser, getExecutorService());
         } finally {
-            executorService.shutdown();
+            try {
+                provider.close();
+            } catch (IOException ex) {
+                LOGGER.log(Level.FINE, "Failed to close " + path, ex);
+            }
         }
-        return statement;
     }
 
     public static Statement parse(String sql) throws JSQLParserException {
@@ -85,14 +232,7 @@ public final class CCJSqlParserUtil {
             return null;
         }
 
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        Statement statement = null;
-        try {
-            statement = parse(sql, executorService, consumer);
-        } finally {
-            executorService.shutdown();
-        }
-        return statement;
+        return parse(sql, getExecutorService(), consumer);
     }
 
     public static Statement parse(String sql, ExecutorService executorService,
@@ -102,27 +242,57 @@ public final class CCJSqlParserUtil {
             return null;
         }
 
+        return parseWithStrategy(sql, () -> {
+            CCJSqlParser parser = newParser(sql);
+            if (consumer != null) {
+                consumer.accept(parser);
+            }
+            return parser;
+        }, executorService);
+    }
+
+    /**
+     * Parses a statement according to the {@link ParsingStrategy} of the parser.
+     *
+     * @param sql the statement
+     * @param parserSupplier the supplier of a parser armed with the statement, which is asked again
+     *        when SIMPLE parsing failed
+     * @param executorService the Executor Service for parsing within a Thread, or
+     *        <code>null</code> for parsing within the calling thread
+     * @return the parsed statement
+     */
+    static Statement parseWithStrategy(String sql, Supplier<CCJSqlParser> parserSupplier,
+            ExecutorService executorService) throws JSQLParserException {
         Statement statement = null;
-        // first, try to parse fast and simple
-        CCJSqlParser parser = newParser(sql);
-        if (consumer != null) {
-            consumer.accept(parser);
+        CCJSqlParser parser = parserSupplier.get();
+        ParsingStrategy strategy = getParsingStrategy(parser);
+        ParsingStatistics.Shape shape = null;
+        if (strategy == ParsingStrategy.ADAPTIVE) {
+            shape = ParsingStatistics.scan(sql, parser.getConfiguration());
+            strategy = ParsingStatistics.resolve(shape);
         }
-        boolean allowComplex = parser.getConfiguration().getAsBoolean(Feature.allowComplexParsing);
-        LOGGER.info("Allowed Complex Parsing: " + allowComplex);
+        LOGGER.info("Parsing Strategy: " + strategy);
+        if (strategy == ParsingStrategy.COMPLEX_ONLY) {
+            return parseStatement(parser.withAllowComplexParsing(true), executorService);
+        }
+
+        // first, try to parse fast and simple
+        SqlEventBuffer events =
+                strategy == ParsingStrategy.ADAPTIVE ? holdBackEvents(parser) : null;
         try {
-            LOGGER.info("Trying SIMPLE parsing " + (allowComplex ? "first" : "only"));
+            LOGGER.info("Trying SIMPLE parsing "
+                    + (strategy == ParsingStrategy.ADAPTIVE ? "first" : "only"));
             statement = parseStatement(parser.withAllowComplexParsing(false), executorService);
+            if (events != null) {
+                events.replay();
+            }
         } catch (JSQLParserException ex) {
-            LOGGER.info("Nesting Depth" + getNestingDepth(sql));
-            if (allowComplex && getNestingDepth(sql) <= ALLOWED_NESTING_DEPTH) {
+            if (strategy == ParsingStrategy.ADAPTIVE && !isBudgetExceeded(ex)) {
                 LOGGER.info("Trying COMPLEX parsing when SIMPLE parsing failed");
                 // beware: the parser must not be reused, but needs to be re-initiated
-                parser = newParser(sql);
-                if (consumer != null) {
-                    consumer.accept(parser);
-                }
+                parser = parserSupplier.get();
                 statement = parseStatement(parser.withAllowComplexParsing(true), executorService);
+                ParsingStatistics.recordComplex(shape);
             } else {
                 throw ex;
             }
@@ -130,6 +300,95 @@ public final class CCJSqlParserUtil {
         return statement;
     }
 
+    /**
+     * Holds back the events of the SIMPLE attempt, since the COMPLEX one may follow: the handler is
+     * told the events of one attempt only.
+     *
+     * @return the events to replay once the attempt has succeeded, or <code>null</code> when the
+     *         parser has no event handler
+     */
+    private static SqlEventBuffer holdBackEvents(CCJSqlParser parser) {
+        SqlEventHandler handler = parser.getEventHandler();
+        if (handler == null) {
+            return null;
+        }
+        SqlEventBuffer events = new SqlEventBuffer(handler);
+        parser.withEventHandler(events);
+        return events;
+    }
+
+    /**
+     * @return TRUE when the parser has failed because of a {@link ParseBudgetExceededException},
+     *         which complex parsing would exceed again
+     */
+    private static boolean isBudgetExceeded(JSQLParserException ex) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ParseBudgetExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static ParseResult check(String sql) {
+        return check(sql, null);
+    }
+
+    /**
+     * Checks the syntax of a statement, like {@link #parse(String, Consumer)} would, but without
+     * building the statement first. The statement is recognized by a syntactic lookahead of the
+     * grammar, which creates neither nodes nor model objects. Only when it is not recognized (or
+     * contains a part, which the lookahead does not scan), the statement is parsed in order to
+     * tell the error or the outcome. The grammar expresses its restrictions in the syntax, not in
+     * the actions, which the lookahead does not run; an action can still fail on a numeric literal
+     * out of the range of its Java type, which is not told by the lookahead.
+     *
+     * @param sql the text of the statement
+     * @param consumer to configure the parser, like for {@link #parse(String, Consumer)}
+     * @return the success or the error, whose cause is the {@link ParseException} with the
+     *         position; the statement only when it had to be parsed
+     */
+    public static ParseResult check(String sql, Consumer<CCJSqlParser> consumer) {
+        if (sql == null || sql.isEmpty()) {
+            return ParseResult.of(null);
+        }
+        Supplier<CCJSqlParser> parserSupplier = () -> {
+            CCJSqlParser parser = newParser(sql).withRetainAstNodes(false);
+            if (consumer != null) {
+                consumer.accept(parser);
+            }
+            return parser;
+        };
+        try {
+            CCJSqlParser parser = parserSupplier.get();
+            ParsingStrategy strategy = getParsingStrategy(parser);
+            // the lookahead consumes no tokens, so the parser can try again with complex parsing
+            if (strategy != ParsingStrategy.COMPLEX_ONLY
+                    && recognizeStatement(parser.withAllowComplexParsing(false))
+                    || strategy != ParsingStrategy.SIMPLE_ONLY
+                            && recognizeStatement(parser.withAllowComplexParsing(true))) {
+                return ParseResult.of(null);
+            }
+            return ParseResult.of(parseWithStrategy(sql, parserSupplier, null));
+        } catch (JSQLParserException ex) {
+            return ParseResult.of(ex, null);
+        }
+    }
+
+    private static boolean recognizeStatement(CCJSqlParser parser) throws JSQLParserException {
+        return parseInCallingThread(parser, parser::RecognizeStatement);
+    }
+
+    /**
+     * @return the configured {@link ParsingStrategy}, or {@link ParsingStrategy#SIMPLE_ONLY} when
+     *         {@link Feature#allowComplexParsing} is disabled
+     */
+    private static ParsingStrategy getParsingStrategy(CCJSqlParser parser) {
+        return parser.getAsBoolean(Feature.allowComplexParsing)
+                ? parser.getParsingStrategy()
+                : ParsingStrategy.SIMPLE_ONLY;
+    }
+
     public static CCJSqlParser newParser(String sql) {
         if (sql == null || sql.isEmpty()) {
             return null;
@@ -326,7 +585,10 @@ public final class CCJSqlParserUtil {
 
     /**
      * @param parser the Parser armed with a Statement text
-     * @param executorService the Executor Service for parsing within a Thread
+     * @param executorService the Executor Service for parsing within a Thread, or
+     *        <code>null</code> for parsing within the calling thread (see
+     *        {@link #parseStatement(CCJSqlParser)}), which also parses when the Executor Service
+     *        rejects the parse, e.g. since it has been shut down
      * @return the parsed Statement
      * @throws JSQLParserException when either the Statement can't be parsed or the configured
      *         timeout is reached
@@ -334,24 +596,83 @@ public final class CCJSqlParserUtil {
 
     public static Statement parseStatement(CCJSqlParser parser, ExecutorService executorService)
             throws JSQLParserException {
-        Statement statement = null;
-        Future<Statement> future = executorService.submit(new Callable<Statement>() {
-            @Override
-            public Statement call() throws ParseException {
-                return parser.Statement();
-            }
-        });
+        if (executorService == null) {
+            return parseStatement(parser);
+        }
+        return parseInExecutor(parser, parser::Statement, executorService);
+    }
+
+    private static <T> T parseInExecutor(CCJSqlParser parser, Callable<T> callable,
+            ExecutorService executorService) throws JSQLParserException {
+        long timeOut = parser.getConfiguration().getTimeOut();
+        // the parser also stops by itself, when it runs in the calling thread since the pool is
+        // busy, and after the caller has given up
+        parser.withDeadline(timeOut);
+        Future<T> future;
+        try {
+            future = executorService.submit(callable);
+        } catch (RejectedExecutionException ex) {
+            // e.g. shut down meanwhile by setExecutorService()
+            return parseInCallingThread(parser, callable);
+        }
+        T result;
         try {
-            statement = future.get(parser.getConfiguration().getAsLong(Feature.timeOut),
-                    TimeUnit.MILLISECONDS);
+            result = future.get(timeOut, TimeUnit.MILLISECONDS);
         } catch (TimeoutException ex) {
             parser.interrupted = true;
             future.cancel(true);
             throw new JSQLParserException("Time out occurred.", ex);
         } catch (Exception ex) {
+            if (parser.isTimedOut()) {
+                throw newTimeOutException(timeOut);
+            }
             throw new JSQLParserException(ex);
         }
-        return statement;
+        // an interrupted parser may have produced a partial result only
+        if (parser.isTimedOut()) {
+            throw newTimeOutException(timeOut);
+        }
+        return result;
+    }
+
+    /**
+     * Parses within the calling thread without any Executor Service. The {@link Feature#timeOut} is
+     * enforced cooperatively by the parser itself, which checks its deadline during the lookaheads
+     * and fails fast once it has passed. This avoids the thread hop and suits Virtual Threads or
+     * reactive pipelines, where blocking on a Future is unwelcome.
+     *
+     * @param parser the Parser armed with a Statement text
+     * @return the parsed Statement
+     * @throws JSQLParserException when either the Statement can't be parsed or the configured
+     *         timeout is reached
+     */
+    public static Statement parseStatement(CCJSqlParser parser) throws JSQLParserException {
+        return parseInCallingThread(parser, parser::Statement);
+    }
+
+    private static <T> T parseInCallingThread(CCJSqlParser parser, Callable<T> callable)
+            throws JSQLParserException {
+        long timeOut = parser.getConfiguration().getTimeOut();
+        parser.withDeadline(timeOut);
+        T result;
+        try {
+            result = callable.call();
+        } catch (Exception ex) {
+            if (parser.isTimedOut()) {
+                throw newTimeOutException(timeOut);
+            }
+            throw new JSQLParserException(ex);
+        }
+        // an interrupted parser may have produced a partial result only
+        if (parser.isTimedOut()) {
+            throw newTimeOutException(timeOut);
+        }
+        return result;
+    }
+
+    private static JSQLParserException newTimeOutException(long timeOut) {
+        return new JSQLParserException("Time out occurred.",
+                new TimeoutException("Parsing exceeded " + timeOut + " ms."));
     }
 
     /**
@@ -373,11 +694,7 @@ public final class CCJSqlParserUtil {
             return null;
         }
 
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        final Statements statements = parseStatements(sqls, executorService, consumer);
-        executorService.shutdown();
-
-        return statements;
+        return parseStatements(sqls, getExecutorService(), consumer);
     }
 
     /**
@@ -392,58 +709,208 @@ public final class CCJSqlParserUtil {
             return null;
         }
 
+        return parseStatementsWithStrategy(sqls, () -> {
+            CCJSqlParser parser = newParser(sqls);
+            if (consumer != null) {
+                consumer.accept(parser);
+            }
+            return parser;
+        }, executorService);
+    }
+
+    /**
+     * @param sqls the statement list
+     * @param parserSupplier the supplier of new parsers armed with the statement list
+     * @param executorService the Executor Service for parsing within a Thread, or
+     *        <code>null</code> for parsing within the calling thread
+     * @return the statements parsed, or <code>null</code> when SIMPLE parsing failed and COMPLEX
+     *         parsing was not attempted
+     */
+    static Statements parseStatementsWithStrategy(String sqls,
+            Supplier<CCJSqlParser> parserSupplier, ExecutorService executorService)
+            throws JSQLParserException {
         Statements statements = null;
-        CCJSqlParser parser = newParser(sqls);
-        if (consumer != null) {
-            consumer.accept(parser);
+        CCJSqlParser parser = parserSupplier.get();
+        ParsingStrategy strategy = getParsingStrategy(parser);
+        ParsingStatistics.Shape shape = null;
+        if (strategy == ParsingStrategy.ADAPTIVE) {
+            shape = ParsingStatistics.scan(sqls, parser.getConfiguration());
+            strategy = ParsingStatistics.resolve(shape);
+        }
+        if (strategy == ParsingStrategy.COMPLEX_ONLY) {
+            return parseStatements(parser.withAllowComplexParsing(true), executorService);
         }
-        boolean allowComplex = parser.getConfiguration().getAsBoolean(Feature.allowComplexParsing);
 
         // first, try to parse fast and simple
+        SqlEventBuffer events =
+                strategy == ParsingStrategy.ADAPTIVE ? holdBackEvents(parser) : null;
         try {
             statements = parseStatements(parser.withAllowComplexParsing(false), executorService);
+            if (events != null) {
+                events.replay();
+            }
         } catch (JSQLParserException ex) {
             // when fast simple parsing fails, try complex parsing but only if it has a chance to
             // succeed
-            if (allowComplex && getNestingDepth(sqls) <= ALLOWED_NESTING_DEPTH) {
+            if (isBudgetExceeded(ex)) {
+                throw ex;
+            } else if (strategy == ParsingStrategy.ADAPTIVE) {
                 // beware: parser must not be re-used but needs to be re-initiated
-                parser = newParser(sqls);
+                parser = parserSupplier.get();
+                statements = parseStatements(parser.withAllowComplexParsing(true), executorService);
+                ParsingStatistics.recordComplex(shape);
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * Parse a statement list on the common Fork Join Pool.
+     *
+     * @see #parseStatementsInParallel(String, ForkJoinPool, Consumer)
+     */
+    public static Statements parseStatementsInParallel(String sqls) throws JSQLParserException {
+        return parseStatementsInParallel(sqls, ForkJoinPool.commonPool(), null);
+    }
+
+    /**
+     * Parse a statement list on the common Fork Join Pool.
+     *
+     * @see #parseStatementsInParallel(String, ForkJoinPool, Consumer)
+     */
+    public static Statements parseStatementsInParallel(String sqls,
+            Consumer<CCJSqlParser> consumer) throws JSQLParserException {
+        return parseStatementsInParallel(sqls, ForkJoinPool.commonPool(), consumer);
+    }
+
+    /**
+     * Parse a large statement list like a script or a dump in parallel. The script is split at its
+     * top level statement delimiters into chunks, which are parsed concurrently on the given pool
+     * and reassembled in their original order. The token positions refer to the whole script. A
+     * script with JDBC parameters is parsed as one chunk, so they are numbered like by
+     * {@link #parseStatements(String)}.
+     * <p>
+     * The {@link Feature#timeOut} applies to each chunk. When any chunk fails, the whole script is
+     * parsed again in the calling thread, so the result and the reported error are the same as of
+     * {@link #parseStatements(String, ExecutorService, Consumer)}.
+     *
+     * @param sqls the statement list
+     * @param pool the pool for parsing the chunks
+     * @param consumer the consumer for configuring each parser, or <code>null</code>
+     * @return the statements parsed
+     * @throws JSQLParserException when the statements can't be parsed
+     */
+    public static Statements parseStatementsInParallel(String sqls, ForkJoinPool pool,
+            Consumer<CCJSqlParser> consumer) throws JSQLParserException {
+        if (sqls == null || sqls.isEmpty()) {
+            return null;
+        }
+
+        List<ScriptSplitter.Chunk> chunks =
+                ScriptSplitter.split(sqls, consumer, ScriptSplitter.MINIMUM_CHUNK_LENGTH);
+        List<ForkJoinTask<Statements>> tasks = new ArrayList<>(chunks.size());
+        for (ScriptSplitter.Chunk chunk : chunks) {
+            tasks.add(pool.submit(() -> parseStatementsWithStrategy(chunk.getText(), () -> {
+                CCJSqlParser parser = chunk.newParser();
                 if (consumer != null) {
                     consumer.accept(parser);
                 }
-                statements = parseStatements(parser.withAllowComplexParsing(true), executorService);
+                return parser;
+            }, null)));
+        }
+
+        Statements statements = new Statements();
+        for (ForkJoinTask<Statements> task : tasks) {
+            Statements chunkStatements = null;
+            try {
+                chunkStatements = task.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new JSQLParserException(ex);
+            } catch (ExecutionException ex) {
+                LOGGER.info("Parsing a chunk failed: " + ex.getCause());
             }
+            if (chunkStatements == null) {
+                tasks.forEach(t -> t.cancel(true));
+                return parseStatements(sqls, (ExecutorService) null, consumer);
+            }
+            statements.addAll(chunkStatements);
         }
         return statements;
     }
 
     /**
      * @param parser the Parser armed with a Statement text
-     * @param executorService the Executor Service for parsing within a Thread
+     * @param executorService the Executor Service for parsing within a Thread, or
+     *        <code>null</code> for parsing within the calling thread (see
+     *        {@link #parseStatement(CCJSqlParser)})
      * @return the Statements (representing a List of single statements)
      * @throws JSQLParserException when either the Statement can't be parsed or the configured
      *         timeout is reached
      */
     public static Statements parseStatements(CCJSqlParser parser, ExecutorService executorService)
             throws JSQLParserException {
-        Statements statements = null;
-        Future<Statements> future = executorService.submit(new Callable<Statements>() {
-            @Override
-            public Statements call() throws ParseException {
-                return parser.Statements();
-            }
-        });
-        try {
-            statements = future.get(parser.getConfiguration().getAsLong(Feature.timeOut),
-                    TimeUnit.MILLISECONDS);
-        } catch (TimeoutException ex) {
-            parser.interrupted = true;
-            future.cancel(true);
-            throw new JSQLParserException("Time out occurred.", ex);
-        } catch (Exception ex) {
-            throw new JSQLParserException(ex);
+        if (executorService == null) {
+            return parseInCallingThread(parser, parser::Statements);
         }
-        return statements;
+        return parseInExecutor(parser, parser::Statements, executorService);
+    }
+
+    /**
+     * Streams the statements of a reader lazily, parsing the next statement only when it is
+     * requested. Failing statements are reported as results carrying the error and the skipped
+     * text, after which the stream resumes with the next statement. Closing the stream closes the
+     * reader.
+     *
+     * @param reader the reader providing the statements
+     * @param consumer the consumer for configuring the parser, or <code>null</code>
+     * @return the sequential stream of results in the order of the statements
+     * @see StatementSpliterator
+     */
+    public static Stream<ParseResult> streamStatements(Reader reader,
+            Consumer<CCJSqlParser> consumer) {
+        return StreamSupport.stream(new StatementSpliterator(reader, consumer), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+    }
+
+    /**
+     * Streams the statements of an UTF-8 encoded file lazily.
+     *
+     * @see #streamStatements(Path, Charset, Consumer)
+     */
+    public static Stream<ParseResult> streamStatements(Path path) throws IOException {
+        return streamStatements(path, StandardCharsets.UTF_8, null);
+    }
+
+    /**
+     * Streams the statements of a file lazily, like {@link #streamStatements(Reader, Consumer)}.
+     * The file is memory mapped and decoded incrementally (see {@link MappedFileProvider}), so the
+     * heap needed is bounded by the largest statement even for scripts of several gigabytes.
+     * Closing the stream closes the file.
+     *
+     * @param path the file
+     * @param charset the encoding of the file
+     * @param consumer the consumer for configuring the parser, or <code>null</code>
+     * @return the sequential stream of results in the order of the statements
+     * @throws IOException when the file can't be opened
+     */
+    public static Stream<ParseResult> streamStatements(Path path, Charset charset,
+            Consumer<CCJSqlParser> consumer) throws IOException {
+        MappedFileProvider provider = new MappedFileProvider(path, charset);
+        return StreamSupport.stream(new StatementSpliterator(provider, consumer), false)
+                .onClose(() -> {
+                    try {
+                        provider.close();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
     }
 
     public static void streamStatements(StatementListener listener, InputStream is, String encoding)
@@ -0,0 +1,59 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.nio.CharBuffer;
+
+/**
+ * Provides the characters of any {@link CharSequence}, e.g. a {@link CharBuffer} or a
+ * {@link StringBuilder}, without turning it into a String first. Unlike the {@link StringProvider},
+ * the characters are read through the sliding buffer of the {@link SimpleCharStream}, so the heap
+ * needed does not grow with the length of the text.
+ */
+public class CharSequenceProvider implements Provider {
+    private CharSequence chars;
+    private final CharBuffer charBuffer;
+    private int position = 0;
+
+    /**
+     * @param chars the characters, which must not change while being parsed
+     */
+    public CharSequenceProvider(CharSequence chars) {
+        this.chars = chars;
+        // read from an independent view, leaving the position of the given buffer alone
+        this.charBuffer = chars instanceof CharBuffer ? ((CharBuffer) chars).duplicate() : null;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int len) {
+        int count = Math.min(len, chars.length() - position);
+        if (count <= 0) {
+            return len == 0 ? 0 : -1;
+        }
+        if (charBuffer != null) {
+            charBuffer.get(buffer, offset, count);
+        } else if (chars instanceof String) {
+            ((String) chars).getChars(position, position + count, buffer, offset);
+        } else if (chars instanceof StringBuilder) {
+            ((StringBuilder) chars).getChars(position, position + count, buffer, offset);
+        } else {
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = chars.charAt(position + i);
+            }
+        }
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() {
+        chars = "";
+    }
+}
@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.function.Supplier;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.select.Select;
+
+/**
+ * A part of a statement, which a parser in the {@link Feature#lazyParsing lazy mode} has skipped.
+ * It keeps the text of the part and the features of the parser and parses the text when asked for,
+ * in the lazy mode again.
+ * <p>
+ * The positions of the tokens parsed from the text are relative to the text.
+ *
+ * @param <T> the type of the parsed part
+ */
+public final class DeferredParse<T> {
+
+    @FunctionalInterface
+    private interface Production<T> {
+        T parse(String text, Supplier<CCJSqlParser> parserSupplier) throws JSQLParserException;
+    }
+
+    private final String text;
+    private final FeatureConfiguration configuration;
+    private final Production<T> production;
+
+    private DeferredParse(String text, FeatureConfiguration configuration,
+            Production<T> production) {
+        this.text = text;
+        this.configuration = configuration;
+        this.production = production;
+    }
+
+    /**
+     * @param text the text of the select within the brackets
+     * @param configuration the frozen features of the parser
+     * @return the deferred select
+     */
+    static DeferredParse<Select> ofSelect(String text, FeatureConfiguration configuration) {
+        return new DeferredParse<>(text, configuration, (sql, parserSupplier) -> {
+            Statement statement = CCJSqlParserUtil.parseWithStrategy(sql, parserSupplier, null);
+            if (!(statement instanceof Select)) {
+                throw new JSQLParserException("No select: " + sql);
+            }
+            return (Select) statement;
+        });
+    }
+
+    /**
+     * @param text the statements between BEGIN and END
+     * @param configuration the frozen features of the parser
+     * @return the deferred statements
+     */
+    static DeferredParse<Statements> ofStatements(String text,
+            FeatureConfiguration configuration) {
+        return new DeferredParse<>(text, configuration,
+                (sql, parserSupplier) -> CCJSqlParserUtil.parseStatementsWithStrategy(sql,
+                        parserSupplier, null));
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Parses the text within the calling thread, so the {@link Feature#timeOut} only applies
+     * cooperatively.
+     *
+     * @return the parsed part
+     * @throws JSQLParserException when the text can't be parsed, since the lazy mode does not
+     *         verify the skipped parts
+     */
+    public T parse() throws JSQLParserException {
+        return production.parse(text,
+                () -> new CCJSqlParser(new StringProvider(text)).withConfiguration(configuration));
+    }
+}
@@ -0,0 +1,101 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Provides the characters of a file, which is memory mapped segment by segment and decoded
+ * incrementally into the sliding buffer of the {@link SimpleCharStream}. So neither the bytes nor
+ * the characters of the file are copied onto the heap as a whole, which allows parsing files of
+ * several gigabytes with a small heap.
+ * <p>
+ * Malformed input is replaced like {@link java.io.InputStreamReader} does.
+ */
+public class MappedFileProvider implements Provider {
+    static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int segmentSize;
+    private final CharsetDecoder decoder;
+    private ByteBuffer segment;
+    private long segmentStart = 0L;
+    private boolean finished = false;
+
+    /**
+     * @param path the file to read
+     * @param charset the encoding of the file
+     * @throws IOException when the file can't be opened or mapped
+     */
+    public MappedFileProvider(Path path, Charset charset) throws IOException {
+        this(path, charset, SEGMENT_SIZE);
+    }
+
+    MappedFileProvider(Path path, Charset charset, int segmentSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.segmentSize = segmentSize;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try {
+            this.size = channel.size();
+            map(0L, segmentSize);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    private void map(long position, int length) throws IOException {
+        segmentStart = position;
+        segment = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                Math.min(length, size - position));
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int len) throws IOException {
+        CharBuffer out = CharBuffer.wrap(buffer, offset, len);
+        while (!finished && out.hasRemaining()) {
+            boolean endOfInput = segmentStart + segment.limit() == size;
+            CoderResult result = decoder.decode(segment, out, endOfInput);
+            if (result.isOverflow()) {
+                break;
+            } else if (endOfInput) {
+                if (decoder.flush(out).isOverflow()) {
+                    break;
+                }
+                finished = true;
+            } else {
+                // continue with the next segment, starting at the bytes of an incomplete character
+                // (which must fit into the segment)
+                map(segmentStart + segment.position(),
+                        Math.max(segmentSize, 2 * segment.remaining()));
+            }
+        }
+        int count = out.position() - offset;
+        return count == 0 && finished && len > 0 ? -1 : count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        channel.close();
+    }
+}
@@ -0,0 +1,58 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.concurrent.CancellationException;
+
+import net.sf.jsqlparser.parser.feature.Feature;
+
+/**
+ * Thrown by a parser, which has exceeded one of its budgets: {@link Feature#maxTokens},
+ * {@link Feature#maxLookaheadSteps} or {@link Feature#maxDepth}. Unlike the {@link Feature#timeOut},
+ * the budgets count the lexed tokens and brackets of the text and the lookahead steps of the
+ * parser, so the same text fails the same way on any machine and under any load.
+ * <p>
+ * Like the cooperative time out, the exception aborts the parser, which needs to
+ * {@link CCJSqlParser#recover() recover} before it can continue with the next tokens.
+ * {@link CCJSqlParserUtil} reports it as the cause of a
+ * {@link net.sf.jsqlparser.JSQLParserException} and does not try complex parsing again.
+ */
+public class ParseBudgetExceededException extends CancellationException {
+    private static final long serialVersionUID = 1L;
+
+    private final Feature budget;
+    private final long limit;
+
+    /**
+     * @param budget the feature of the exceeded budget
+     * @param limit the configured limit
+     * @param token the token, at which the parser has exceeded the budget, or <code>null</code>
+     */
+    public ParseBudgetExceededException(Feature budget, long limit, Token token) {
+        super("The parser has exceeded its budget " + budget + " = " + limit
+                + (token != null && token.image != null
+                        ? " at line " + token.beginLine + ", column " + token.beginColumn
+                        : "")
+                + ".");
+        this.budget = budget;
+        this.limit = limit;
+    }
+
+    /**
+     * @return the feature of the exceeded budget
+     */
+    public Feature getBudget() {
+        return budget;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+}
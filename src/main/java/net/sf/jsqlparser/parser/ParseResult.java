@@ -0,0 +1,73 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * The outcome of parsing one statement of a stream: either the parsed {@link Statement}, or the
+ * error together with the text which has been skipped up to the next statement delimiter. Also
+ * the outcome of checking a statement.
+ *
+ * @see StatementSpliterator
+ * @see CCJSqlParserUtil#check(String)
+ */
+public final class ParseResult {
+    private final Statement statement;
+    private final JSQLParserException exception;
+    private final String skippedText;
+
+    private ParseResult(Statement statement, JSQLParserException exception, String skippedText) {
+        this.statement = statement;
+        this.exception = exception;
+        this.skippedText = skippedText;
+    }
+
+    public static ParseResult of(Statement statement) {
+        return new ParseResult(statement, null, null);
+    }
+
+    public static ParseResult of(JSQLParserException exception, String skippedText) {
+        return new ParseResult(null, exception, skippedText);
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * @return the parsed statement, or <code>null</code> when parsing failed or when the statement
+     *         has only been checked (see {@link CCJSqlParserUtil#check(String)})
+     */
+    public Statement getStatement() {
+        return statement;
+    }
+
+    /**
+     * @return the error, or <code>null</code> when parsing succeeded
+     */
+    public JSQLParserException getException() {
+        return exception;
+    }
+
+    /**
+     * @return the tokens of the failed statement separated by a blank, or <code>null</code> when
+     *         parsing succeeded
+     */
+    public String getSkippedText() {
+        return skippedText;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? String.valueOf(statement) : exception.getMessage();
+    }
+}
@@ -0,0 +1,93 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.function.Consumer;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+
+/**
+ * Keeps one configured parser per thread and {@link CCJSqlParser#reset(String) resets} it for
+ * every statement, instead of building a new parser with its token manager, character buffers and
+ * feature configuration each time. This saves a large share of the allocations when parsing many
+ * small statements.
+ * <p>
+ * The parsers are confined to their threads, so parsing happens within the calling thread and the
+ * {@link net.sf.jsqlparser.parser.feature.Feature#timeOut} is enforced cooperatively (see
+ * {@link CCJSqlParserUtil#parseStatement(CCJSqlParser)}). A pool should be long living, since each
+ * thread holds on to its parser for as long as the pool is reachable.
+ *
+ * <pre>
+ * ParserPool pool = new ParserPool(parser -&gt; parser.withSquareBracketQuotation(true));
+ * Statement statement = pool.parse("SELECT * FROM [mytable]");
+ * </pre>
+ */
+public class ParserPool {
+    private final Consumer<CCJSqlParser> consumer;
+    private final FeatureConfiguration configuration;
+    private final ThreadLocal<CCJSqlParser> parsers = ThreadLocal.withInitial(this::newParser);
+
+    public ParserPool() {
+        this(null);
+    }
+
+    /**
+     * @param consumer the consumer for configuring each new parser, or <code>null</code>
+     */
+    public ParserPool(Consumer<CCJSqlParser> consumer) {
+        this.consumer = consumer;
+        // the features as configured, since parsing switches between SIMPLE and COMPLEX parsing
+        this.configuration = newParser().getConfiguration().freeze();
+    }
+
+    private CCJSqlParser newParser() {
+        CCJSqlParser parser = new CCJSqlParser(new StringProvider(""));
+        if (consumer != null) {
+            consumer.accept(parser);
+        }
+        return parser;
+    }
+
+    /**
+     * @param sql the text to parse
+     * @return the parser of the current thread, reset for parsing the text with the configured
+     *         features
+     */
+    CCJSqlParser getParser(String sql) {
+        return parsers.get().reset(sql).withConfiguration(configuration);
+    }
+
+    /**
+     * @param sql the statement
+     * @return the parsed statement, or <code>null</code> for an empty text
+     * @see CCJSqlParserUtil#parse(String, Consumer)
+     */
+    public Statement parse(String sql) throws JSQLParserException {
+        if (sql == null || sql.isEmpty()) {
+            return null;
+        }
+        return CCJSqlParserUtil.parseWithStrategy(sql, () -> getParser(sql), null);
+    }
+
+    /**
+     * @param sqls the statements
+     * @return the parsed statements, or <code>null</code> for an empty text
+     * @see CCJSqlParserUtil#parseStatements(String, Consumer)
+     */
+    public Statements parseStatements(String sqls) throws JSQLParserException {
+        if (sqls == null || sqls.isEmpty()) {
+            return null;
+        }
+        return CCJSqlParserUtil.parseStatementsWithStrategy(sqls, () -> getParser(sqls), null);
+    }
+}
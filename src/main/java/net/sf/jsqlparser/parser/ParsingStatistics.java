@@ -0,0 +1,186 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.parser.feature.ParsingStrategy;
+
+/**
+ * Supports the {@link ParsingStrategy#ADAPTIVE} strategy with a cheap structural pre-scan of the
+ * SQL text and with the statistics, which statement shapes needed COMPLEX parsing.
+ * <p>
+ * The shape of a statement is its text without comments and with all string and number literals
+ * collapsed, so statements differing in their literal values only share the same shape. Those are
+ * parsed by the same grammar decisions and so succeed or fail in the same mode, provided the same
+ * features are configured.
+ */
+final class ParsingStatistics {
+    static final int MAXIMUM_SIZE = 4096;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char LITERAL = '\u0000';
+    private static final char DECIMAL_LITERAL = '\u0001';
+
+    // the features changing the outcome of the SIMPLE parsing
+    private static final Feature[] SHAPE_FEATURES = {Feature.allowSquareBracketQuotation,
+            Feature.allowPostgresSpecificSyntax, Feature.allowUnsupportedStatements,
+            Feature.allowBackslashEscapeCharacter, Feature.allowUnparenthesizedSubSelects};
+
+    private static final Map<Long, Boolean> COMPLEX_SHAPES =
+            new LinkedHashMap<Long, Boolean>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                    return size() > MAXIMUM_SIZE;
+                }
+            };
+
+    private ParsingStatistics() {}
+
+    /**
+     * The result of the pre-scan.
+     */
+    static final class Shape {
+        private final int nestingDepth;
+        private final long hash;
+
+        Shape(int nestingDepth, long hash) {
+            this.nestingDepth = nestingDepth;
+            this.hash = hash;
+        }
+
+        /**
+         * @return the maximum depth of parentheses, ignoring those within quotes or comments
+         */
+        int getNestingDepth() {
+            return nestingDepth;
+        }
+
+        long getHash() {
+            return hash;
+        }
+    }
+
+    /**
+     * Scans the SQL text once for its nesting depth and its shape. Unlike
+     * {@link CCJSqlParserUtil#getNestingDepth(String)}, the scan is aware of quotes and comments.
+     *
+     * @param sql the SQL text
+     * @param configuration the configured features, which are part of the shape
+     * @return the shape
+     */
+    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.ExcessiveMethodLength"})
+    static Shape scan(String sql, FeatureConfiguration configuration) {
+        int length = sql.length();
+        int level = 0;
+        int maxLevel = 0;
+        long hash = FNV_OFFSET_BASIS;
+        char previous = ' ';
+
+        for (Feature feature : SHAPE_FEATURES) {
+            hash = (hash ^ (configuration.getAsBoolean(feature) ? 1 : 0)) * FNV_PRIME;
+        }
+
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            char next = i + 1 < length ? sql.charAt(i + 1) : ' ';
+            if (c == '-' && next == '-') {
+                i = skipUntil(sql, i + 2, "\n");
+                continue;
+            } else if (c == '/' && next == '*') {
+                i = skipUntil(sql, i + 2, "*/");
+                continue;
+            } else if (c == '\'') {
+                // a doubled quote just continues the literal
+                i = skipUntil(sql, i + 1, "'");
+                hash = (hash ^ LITERAL) * FNV_PRIME;
+                previous = LITERAL;
+                continue;
+            } else if (c == '"' || c == '`') {
+                int end = skipUntil(sql, i + 1, String.valueOf(c));
+                for (int j = i; j < end; j++) {
+                    hash = (hash ^ sql.charAt(j)) * FNV_PRIME;
+                }
+                i = end;
+                previous = c;
+                continue;
+            } else if (Character.isDigit(c) && !isIdentifierPart(previous)) {
+                boolean isDecimal = false;
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    isDecimal |= sql.charAt(i) == '.';
+                    i++;
+                }
+                // long and double literals are different tokens
+                hash = (hash ^ (isDecimal ? DECIMAL_LITERAL : LITERAL)) * FNV_PRIME;
+                previous = LITERAL;
+                continue;
+            } else if (c == '(') {
+                level++;
+                maxLevel = Math.max(maxLevel, level);
+            } else if (c == ')') {
+                level--;
+            }
+            hash = (hash ^ c) * FNV_PRIME;
+            previous = c;
+            i++;
+        }
+        return new Shape(maxLevel, hash);
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#' || c == '@';
+    }
+
+    /**
+     * @return the position after the delimiter, or the end of the text
+     */
+    private static int skipUntil(String sql, int start, String delimiter) {
+        int end = sql.indexOf(delimiter, start);
+        return end < 0 ? sql.length() : end + delimiter.length();
+    }
+
+    /**
+     * Resolves the {@link ParsingStrategy#ADAPTIVE} strategy up front, when possible.
+     *
+     * @param shape the shape of the statement
+     * @return {@link ParsingStrategy#SIMPLE_ONLY} when the statement is nested too deeply for
+     *         COMPLEX parsing, {@link ParsingStrategy#COMPLEX_ONLY} when SIMPLE parsing failed for
+     *         this shape before, {@link ParsingStrategy#ADAPTIVE} otherwise
+     */
+    static ParsingStrategy resolve(Shape shape) {
+        if (shape.getNestingDepth() > CCJSqlParserUtil.ALLOWED_NESTING_DEPTH) {
+            return ParsingStrategy.SIMPLE_ONLY;
+        }
+        synchronized (COMPLEX_SHAPES) {
+            return COMPLEX_SHAPES.containsKey(shape.getHash())
+                    ? ParsingStrategy.COMPLEX_ONLY
+                    : ParsingStrategy.ADAPTIVE;
+        }
+    }
+
+    static void recordComplex(Shape shape) {
+        synchronized (COMPLEX_SHAPES) {
+            COMPLEX_SHAPES.put(shape.getHash(), Boolean.TRUE);
+        }
+    }
+
+    static void clear() {
+        synchronized (COMPLEX_SHAPES) {
+            COMPLEX_SHAPES.clear();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Splits a SQL script into chunks of complete statements, which can be parsed independently.
+ * <p>
+ * The script is tokenized (but not parsed) by the regular token manager, so quotes, comments and
+ * the configured features are handled exactly like the parser does. A chunk ends at a top level
+ * statement delimiter only: delimiters within a {@code BEGIN ... END} block or a {@code CASE}
+ * expression are skipped and so is a delimiter followed by the {@code ELSE} of an
+ * {@code IF ... ELSE} statement. A {@code BEGIN} starts no block when it starts a transaction, like
+ * {@code BEGIN TRANSACTION}, {@code BEGIN WORK} or a {@code BEGIN;} which no {@code END} closes.
+ * Small statements are combined into one chunk of at least the given length.
+ * <p>
+ * A script with JDBC parameters is not split, since they are numbered throughout the script.
+ */
+final class ScriptSplitter {
+    static final int MINIMUM_CHUNK_LENGTH = 16 * 1024;
+
+    private static final int QUESTION_MARK =
+            Arrays.asList(CCJSqlParserConstants.tokenImage).indexOf("\"?\"");
+
+    private ScriptSplitter() {}
+
+    /**
+     * A part of the script, which knows its position within the script.
+     */
+    static final class Chunk {
+        private final String text;
+        private final int offset;
+        private final int line;
+        private final int column;
+
+        Chunk(String text, int offset, int line, int column) {
+            this.text = text;
+            this.offset = offset;
+            this.line = line;
+            this.column = column;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        int getOffset() {
+            return offset;
+        }
+
+        int getLine() {
+            return line;
+        }
+
+        int getColumn() {
+            return column;
+        }
+
+        /**
+         * @return a new parser for this chunk, which reports the token positions within the script
+         */
+        CCJSqlParser newParser() {
+            SimpleCharStream stream = new SimpleCharStream(new StringProvider(text), line, column);
+            stream.totalCharsRead = offset;
+            return new CCJSqlParser(new CCJSqlParserTokenManager(stream));
+        }
+    }
+
+    /**
+     * @param sqls the SQL script
+     * @param consumer the consumer for configuring the features of the token manager, or
+     *        <code>null</code>
+     * @param minimumLength the minimum length of a chunk, unless it is the last one
+     * @return the chunks in the order of the script, or the whole script as one chunk when it can't
+     *         be tokenized or when it contains JDBC parameters
+     */
+    static List<Chunk> split(String sqls, Consumer<CCJSqlParser> consumer, int minimumLength) {
+        List<Chunk> chunks = split(sqls, consumer, minimumLength, true);
+        // a BEGIN without the END of a block started a transaction
+        return chunks != null ? chunks : split(sqls, consumer, minimumLength, false);
+    }
+
+    /**
+     * @param bareBlocks whether a BEGIN followed by a delimiter starts a block
+     * @return the chunks, or <code>null</code> when the blocks are not closed
+     */
+    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity",
+            "PMD.ExcessiveMethodLength"})
+    private static List<Chunk> split(String sqls, Consumer<CCJSqlParser> consumer,
+            int minimumLength, boolean bareBlocks) {
+        CCJSqlParserTokenManager tokenManager = new CCJSqlParserTokenManager(
+                new SimpleCharStream(new StreamProvider(new StringReader(sqls))));
+        if (consumer != null) {
+            consumer.accept(new CCJSqlParser(tokenManager));
+        }
+
+        List<Chunk> chunks = new ArrayList<>();
+        int begin = 0;
+        int line = 1;
+        int column = 1;
+        int depth = 0;
+        Token delimiter = null;
+        // a BEGIN or an END, which the next token tells about
+        Token previous = null;
+        try {
+            for (Token token = tokenManager.getNextToken(); token.kind != CCJSqlParserConstants.EOF;
+                    token = tokenManager.getNextToken()) {
+                if (token.kind == QUESTION_MARK || token.kind == CCJSqlParserConstants.S_PARAMETER) {
+                    // the parameters are numbered throughout the script
+                    chunks.clear();
+                    begin = 0;
+                    line = 1;
+                    column = 1;
+                    depth = 0;
+                    break;
+                }
+
+                if (previous != null && previous.kind == CCJSqlParserConstants.K_BEGIN
+                        && startsBlock(token, bareBlocks)) {
+                    depth++;
+                } else if (previous != null && previous.kind == CCJSqlParserConstants.K_END
+                        && token.kind != CCJSqlParserConstants.K_IF
+                        && token.kind != CCJSqlParserConstants.K_LOOP) {
+                    // END IF and END LOOP close nothing counted
+                    depth = Math.max(0, depth - 1);
+                }
+
+                if (delimiter != null && token.kind != CCJSqlParserConstants.ST_SEMICOLON
+                        && token.kind != CCJSqlParserConstants.K_ELSE) {
+                    // the absolute positions are 1-based
+                    int end = delimiter.absoluteEnd - 1;
+                    if (end - begin >= minimumLength) {
+                        chunks.add(new Chunk(sqls.substring(begin, end), begin, line, column));
+                        begin = end;
+                        char last = delimiter.image.charAt(delimiter.image.length() - 1);
+                        if (last == '\n' || last == '\r') {
+                            line = delimiter.endLine + 1;
+                            column = 1;
+                        } else {
+                            line = delimiter.endLine;
+                            column = delimiter.endColumn + 1;
+                        }
+                    }
+                }
+
+                switch (token.kind) {
+                    case CCJSqlParserConstants.K_CASE:
+                        // but not the CASE of END CASE
+                        if (previous == null || previous.kind != CCJSqlParserConstants.K_END) {
+                            depth++;
+                        }
+                        delimiter = null;
+                        break;
+                    case CCJSqlParserConstants.ST_SEMICOLON:
+                        delimiter = depth == 0 ? token : null;
+                        break;
+                    default:
+                        delimiter = null;
+                        break;
+                }
+                previous = token.kind == CCJSqlParserConstants.K_BEGIN
+                        || token.kind == CCJSqlParserConstants.K_END ? token : null;
+            }
+        } catch (TokenMgrException ex) {
+            // leave the lexical error to the parser
+            chunks.clear();
+            begin = 0;
+            line = 1;
+            column = 1;
+            depth = 0;
+        }
+        if (previous != null && previous.kind == CCJSqlParserConstants.K_END) {
+            depth = Math.max(0, depth - 1);
+        }
+        if (depth > 0 && bareBlocks) {
+            return null;
+        }
+        if (begin < sqls.length()) {
+            chunks.add(new Chunk(sqls.substring(begin), begin, line, column));
+        }
+        return chunks;
+    }
+
+    /**
+     * @param next the token after a BEGIN
+     * @return FALSE for the BEGIN of a transaction, like {@code BEGIN TRANSACTION} or
+     *         {@code BEGIN WORK}
+     */
+    private static boolean startsBlock(Token next, boolean bareBlocks) {
+        if (next.kind == CCJSqlParserConstants.ST_SEMICOLON) {
+            return bareBlocks;
+        }
+        return next.kind != CCJSqlParserConstants.K_WORK
+                && !"TRANSACTION".equalsIgnoreCase(next.image)
+                && !"TRAN".equalsIgnoreCase(next.image);
+    }
+}
@@ -355,10 +355,13 @@ public class SimpleCharStream {
         if (isStringProvider) {
             int bs = ((StringProvider) inputStream)._string.length();
             available = bufsize = bs;
-            bufline = new int[bs];
-            bufcolumn = new int[bs];
+            // reuse the buffers of a previous text, when they are large enough
+            if (bufline == null || bufline.length < bs) {
+                bufline = new int[bs];
+                bufcolumn = new int[bs];
+            }
         } else {
-            if (buffer == null || buffersize != buffer.length) {
+            if (buffer == null || buffersize != buffer.length || buffersize != bufline.length) {
                 available = bufsize = buffersize;
                 buffer = new char[buffersize];
                 bufline = new int[buffersize];
@@ -368,6 +371,7 @@ public class SimpleCharStream {
         prevCharIsLF = prevCharIsCR = false;
         tokenBegin = inBuf = maxNextCharInd = 0;
         bufpos = -1;
+        totalCharsRead = absoluteTokenBegin = 0;
     }
 
     /**
@@ -391,6 +395,13 @@ public class SimpleCharStream {
         ReInit(dstream, 1, 1, 4096);
     }
 
+    /**
+     * @return the whole text, when read from a {@link StringProvider}, or <code>null</code>
+     */
+    CharSequence getText() {
+        return isStringProvider ? ((StringProvider) inputStream)._string : null;
+    }
+
     /**
      * @return get token literal value.
      */
@@ -0,0 +1,75 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+
+/**
+ * Holds back the events of a parse, which may still be thrown away, until it has succeeded: the
+ * events of a failed SIMPLE attempt must not reach the handler before those of the COMPLEX one.
+ */
+final class SqlEventBuffer implements SqlEventHandler {
+    private final SqlEventHandler handler;
+    private final List<Consumer<SqlEventHandler>> events = new ArrayList<>();
+
+    /**
+     * @param handler the handler to tell the events, once the parse has succeeded
+     */
+    SqlEventBuffer(SqlEventHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Tells the events held back to the handler, in their order.
+     */
+    void replay() {
+        for (Consumer<SqlEventHandler> event : events) {
+            event.accept(handler);
+        }
+        events.clear();
+    }
+
+    @Override
+    public void startClause(Clause clause) {
+        events.add(h -> h.startClause(clause));
+    }
+
+    @Override
+    public void endClause(Clause clause) {
+        events.add(h -> h.endClause(clause));
+    }
+
+    @Override
+    public void table(Table table) {
+        events.add(h -> h.table(table));
+    }
+
+    @Override
+    public void column(Column column) {
+        events.add(h -> h.column(column));
+    }
+
+    @Override
+    public void function(Function function) {
+        events.add(h -> h.function(function));
+    }
+
+    @Override
+    public void jdbcParameter(JdbcParameter parameter) {
+        events.add(h -> h.jdbcParameter(parameter));
+    }
+}
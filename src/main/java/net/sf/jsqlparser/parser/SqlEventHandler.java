@@ -0,0 +1,70 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+
+/**
+ * Receives the events of a parser while it parses, in the order of the text, like a SAX content
+ * handler. This way the referenced tables, columns, functions and parameters are told without
+ * walking the statements afterwards, e.g. with the
+ * {@link net.sf.jsqlparser.util.TablesNamesFinder}.
+ * <p>
+ * The events are fired as the productions complete, so a nested element is told before the
+ * enclosing one and a clause encloses the events of its expressions. Like a SAX handler, a handler
+ * tracks its context itself: a table may also be the name of a common table expression, a column
+ * may also be an alias. When the parser fails, the events up to the failure have been fired
+ * already. The parts skipped by {@link net.sf.jsqlparser.parser.feature.Feature#lazyParsing} are
+ * not told. When {@link CCJSqlParserUtil} tries SIMPLE parsing before COMPLEX parsing, the events
+ * of the SIMPLE attempt are held back until it has succeeded, so the handler is told the events of
+ * one attempt only. Since {@code parseStatementsInParallel} parses the chunks of a script
+ * concurrently, the handler is best given to a parser, which is used directly:
+ *
+ * <pre>
+ * CCJSqlParser parser = new CCJSqlParser(sql).withEventHandler(handler);
+ * parser.Statements();
+ * </pre>
+ */
+public interface SqlEventHandler {
+
+    /**
+     * The clauses told by {@link #startClause(Clause)} and {@link #endClause(Clause)}.
+     */
+    enum Clause {
+        SELECT, FROM, WHERE, GROUP_BY, HAVING, ORDER_BY
+    }
+
+    default void startClause(Clause clause) {}
+
+    default void endClause(Clause clause) {}
+
+    /**
+     * @param table a table, view or common table expression referenced by name
+     */
+    default void table(Table table) {}
+
+    /**
+     * @param column a column, which may be qualified by its table
+     */
+    default void column(Column column) {}
+
+    /**
+     * @param function a function called, after its parameters
+     */
+    default void function(Function function) {}
+
+    /**
+     * @param parameter a JDBC parameter, numbered in the order of the text
+     */
+    default void jdbcParameter(JdbcParameter parameter) {}
+}
@@ -0,0 +1,122 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+
+/**
+ * Tokenizes SQL text without parsing it, for tooling which only needs the lexer, like syntax
+ * highlighting, keyword checks or splitting statements. The tokens are the very tokens the parser
+ * would see with the same {@link FeatureConfiguration}, but they are collected into compact
+ * {@link SqlTokens} instead of a chain of {@link Token} objects.
+ * <p>
+ * A tokenizer can be shared by threads, as long as its configuration does not change (see
+ * {@link FeatureConfiguration#freeze()}).
+ *
+ * <pre>
+ * SqlTokens tokens = new SqlTokenizer().withComments(true).tokenize(sql);
+ * for (int i = 0; i &lt; tokens.size(); i++) {
+ *     if (tokens.isKeyword(i)) {
+ *         highlight(tokens.getBegin(i), tokens.getEnd(i));
+ *     }
+ * }
+ * </pre>
+ */
+public class SqlTokenizer {
+    private final FeatureConfiguration configuration;
+    private boolean comments = false;
+
+    public SqlTokenizer() {
+        this(new FeatureConfiguration().freeze());
+    }
+
+    /**
+     * @param configuration the lexical features, like {@code allowSquareBracketQuotation}
+     */
+    public SqlTokenizer(FeatureConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @param comments whether to include the comments as tokens
+     * @return this tokenizer
+     */
+    public SqlTokenizer withComments(boolean comments) {
+        this.comments = comments;
+        return this;
+    }
+
+    /**
+     * @param sql the SQL text, which must not change while the tokens are in use
+     * @return the tokens up to the end of the text or up to a lexical error (see
+     *         {@link SqlTokens#getError()})
+     */
+    public SqlTokens tokenize(CharSequence sql) {
+        SqlTokens tokens = new SqlTokens(sql);
+        CCJSqlParserTokenManager tokenManager = new CCJSqlParserTokenManager(
+                new SimpleCharStream(new CharSequenceProvider(sql)));
+        tokenManager.configuration = configuration;
+
+        int end = 0;
+        try {
+            for (Token token = tokenManager.getNextToken();; token = tokenManager.getNextToken()) {
+                if (comments && token.specialToken != null) {
+                    addComments(tokens, token, end);
+                }
+                if (token.kind == CCJSqlParserConstants.EOF) {
+                    break;
+                }
+                // the absolute positions are 1-based
+                end = token.absoluteEnd - 1;
+                tokens.add(token.kind, token.absoluteBegin - 1, end);
+            }
+        } catch (TokenMgrException ex) {
+            tokens.setError(ex);
+        }
+        return tokens;
+    }
+
+    /**
+     * The comments preceding a token carry no positions, but they are the only text besides white
+     * space in front of the token, so they are found in their order.
+     */
+    private static void addComments(SqlTokens tokens, Token token, int from) {
+        Deque<Token> specialTokens = new ArrayDeque<>();
+        for (Token special = token.specialToken; special != null; special = special.specialToken) {
+            specialTokens.push(special);
+        }
+
+        CharSequence sql = tokens.getSource();
+        int begin = from;
+        for (Token special : specialTokens) {
+            while (!regionMatches(sql, begin, special.image)) {
+                begin++;
+            }
+            tokens.add(special.kind, begin, begin + special.image.length());
+            begin += special.image.length();
+        }
+    }
+
+    private static boolean regionMatches(CharSequence sql, int offset, String image) {
+        if (offset + image.length() > sql.length()) {
+            // can't happen, but never loop beyond the text
+            throw new IllegalStateException("The comment " + image + " has not been found.");
+        }
+        for (int i = 0; i < image.length(); i++) {
+            if (sql.charAt(offset + i) != image.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,131 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.Arrays;
+
+/**
+ * The tokens of a SQL text in a compact form: their kinds (see {@link CCJSqlParserConstants}) and
+ * their offsets within the text are held in parallel <code>int</code> arrays, while the image of a
+ * token is only cut from the text when asked for.
+ *
+ * @see SqlTokenizer
+ */
+public final class SqlTokens {
+    private final CharSequence source;
+    private int[] kinds;
+    private int[] begins;
+    private int[] ends;
+    private int size = 0;
+    private TokenMgrException error;
+
+    SqlTokens(CharSequence source) {
+        this.source = source;
+        int capacity = source.length() / 4 + 16;
+        kinds = new int[capacity];
+        begins = new int[capacity];
+        ends = new int[capacity];
+    }
+
+    void add(int kind, int begin, int end) {
+        if (size == kinds.length) {
+            int capacity = size + (size >> 1);
+            kinds = Arrays.copyOf(kinds, capacity);
+            begins = Arrays.copyOf(begins, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+        kinds[size] = kind;
+        begins[size] = begin;
+        ends[size] = end;
+        size++;
+    }
+
+    void setError(TokenMgrException error) {
+        this.error = error;
+    }
+
+    public CharSequence getSource() {
+        return source;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of the token
+     * @return the kind of the token, see {@link CCJSqlParserConstants}
+     */
+    public int getKind(int index) {
+        return kinds[checkIndex(index)];
+    }
+
+    /**
+     * @param index the index of the token
+     * @return the offset of the first character of the token within the text
+     */
+    public int getBegin(int index) {
+        return begins[checkIndex(index)];
+    }
+
+    /**
+     * @param index the index of the token
+     * @return the offset after the last character of the token within the text
+     */
+    public int getEnd(int index) {
+        return ends[checkIndex(index)];
+    }
+
+    /**
+     * @param index the index of the token
+     * @return the text of the token, which is cut from the source on each call
+     */
+    public String getImage(int index) {
+        checkIndex(index);
+        return source.subSequence(begins[index], ends[index]).toString();
+    }
+
+    /**
+     * @param index the index of the token
+     * @return <code>true</code> for a keyword, even when the parser accepts it as an identifier
+     */
+    public boolean isKeyword(int index) {
+        String image = CCJSqlParserConstants.tokenImage[getKind(index)];
+        return image.startsWith("<K_")
+                || image.length() > 2 && image.charAt(0) == '"'
+                        && Character.isLetter(image.charAt(1));
+    }
+
+    /**
+     * @param index the index of the token
+     * @return <code>true</code> for a comment, which are only present when asked for
+     * @see SqlTokenizer#withComments(boolean)
+     */
+    public boolean isComment(int index) {
+        int kind = getKind(index);
+        return kind == CCJSqlParserConstants.LINE_COMMENT
+                || kind == CCJSqlParserConstants.MULTI_LINE_COMMENT;
+    }
+
+    /**
+     * @return the lexical error which ended the tokenizing early, or <code>null</code> when the
+     *         whole text has been tokenized
+     */
+    public TokenMgrException getError() {
+        return error;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + size);
+        }
+        return index;
+    }
+}
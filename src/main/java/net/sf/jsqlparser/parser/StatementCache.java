@@ -0,0 +1,428 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.ModelCopier;
+import net.sf.jsqlparser.util.deparser.ExpressionDeParser;
+import net.sf.jsqlparser.util.deparser.SelectDeParser;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+
+/**
+ * An opt-in, bounded cache of parsed Statements with LRU eviction and hit/miss statistics.
+ * <p>
+ * The cache key is the SQL text plus all {@link Feature} values of the {@link FeatureConfiguration}
+ * influencing the parse result (e.g. square bracket quotation or backslash escaping), so the same
+ * text parsed with a different configuration is cached separately. A parser with an event handler
+ * or with error recovery is never served from the cache, since its handler has to be told the
+ * events and its errors of a parse of its own.
+ * <p>
+ * Since the Statement model is mutable, the cache never hands out a shared instance: it stores a
+ * copy of the Statement and every hit returns a fresh, independent {@link ModelCopier deep copy}
+ * of it. Those copies carry no {@link ASTNodeAccess#getASTNode()} since the AST nodes are not
+ * copied.
+ * <p>
+ * {@code
+ * StatementCache cache = new StatementCache(1000);
+ * FeatureConfiguration configuration = new FeatureConfiguration()
+ *         .setValue(Feature.allowSquareBracketQuotation, true).freeze();
+ * Statement statement = cache.parse("select * from [mytable]", configuration);
+ * }
+ * <p>
+ * When normalizing literals, the SQL text is lexed first and its {@link LongValue},
+ * {@link DoubleValue} and {@link StringValue} literals are replaced by placeholders. All SQL texts
+ * of the same shape (e.g. {@code WHERE id = 42} and {@code WHERE id = 43}) share one cache entry
+ * and the actual literal values are bound into the copy of the cached Statement. A shape is only
+ * cached this way, when all its literal tokens have distinct images and have been verified to end
+ * up as literal values of the Statement in the same order; otherwise the exact SQL text is cached.
+ */
+public class StatementCache {
+    // the time out, the budgets and the AST nodes do not influence the (copied) parse result and
+    // are not part of the key; the lazy parsing is, since it does not validate the deferred parts
+    private static final List<Feature> KEY_FEATURES;
+
+    static {
+        List<Feature> features = new ArrayList<>();
+        for (Feature feature : Feature.values()) {
+            if (feature.isConfigurable() && feature != Feature.timeOut
+                    && feature != Feature.retainAstNodes
+                    && feature != Feature.maxTokens && feature != Feature.maxLookaheadSteps
+                    && feature != Feature.maxDepth) {
+                features.add(feature);
+            }
+        }
+        KEY_FEATURES = Collections.unmodifiableList(features);
+    }
+
+    private static final char PLACEHOLDER = '\u0000';
+    private static final FeatureConfiguration DEFAULT_CONFIGURATION =
+            new FeatureConfiguration().freeze();
+
+    private final int maximumSize;
+    private final boolean normalizeLiterals;
+    private final Map<Key, Statement> entries;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * @param maximumSize the maximum number of cached Statements, the least recently used
+     *        Statement will be evicted when exceeded
+     */
+    public StatementCache(int maximumSize) {
+        this(maximumSize, false);
+    }
+
+    /**
+     * @param maximumSize the maximum number of cached Statements, the least recently used
+     *        Statement will be evicted when exceeded
+     * @param normalizeLiterals TRUE for sharing one cache entry between all SQL texts which differ
+     *        in their literal values only
+     */
+    public StatementCache(int maximumSize, boolean normalizeLiterals) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive.");
+        }
+        this.maximumSize = maximumSize;
+        this.normalizeLiterals = normalizeLiterals;
+        this.entries = new LinkedHashMap<Key, Statement>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Statement> eldest) {
+                if (size() > StatementCache.this.maximumSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Statement parse(String sql) throws JSQLParserException {
+        return parse(sql, DEFAULT_CONFIGURATION);
+    }
+
+    /**
+     * Returns a copy of the cached Statement or parses the SQL text via
+     * {@link CCJSqlParserUtil#parse(String, Consumer)} and caches the result. The consumer
+     * configures a parser for the SQL text, whose configuration is the key: prefer
+     * {@link #parse(String, FeatureConfiguration)}, which does not build that parser. When the
+     * consumer sets an event handler or error recovery, the SQL text is parsed without the cache.
+     *
+     * @param sql the SQL text
+     * @param consumer the consumer configuring the parser, can be <code>null</code>
+     * @return a Statement owned exclusively by the caller, <code>null</code> for empty SQL text
+     * @throws JSQLParserException when the Statement can't be parsed
+     */
+    public Statement parse(String sql, Consumer<CCJSqlParser> consumer)
+            throws JSQLParserException {
+        if (sql == null || sql.isEmpty()) {
+            return null;
+        }
+        if (consumer == null) {
+            return parse(sql, DEFAULT_CONFIGURATION);
+        }
+
+        CCJSqlParser parser = CCJSqlParserUtil.newParser(sql);
+        consumer.accept(parser);
+        if (parser.getEventHandler() != null || parser.isErrorRecovery()) {
+            return CCJSqlParserUtil.parse(sql, consumer);
+        }
+        return parse(sql, parser.getConfiguration());
+    }
+
+    /**
+     * Returns a copy of the cached Statement or parses the SQL text with the configuration and
+     * caches the result.
+     *
+     * @param sql the SQL text
+     * @param configuration the configuration of the parser, which is frozen for the key
+     * @return a Statement owned exclusively by the caller, <code>null</code> for empty SQL text
+     * @throws JSQLParserException when the Statement can't be parsed
+     */
+    public Statement parse(String sql, FeatureConfiguration configuration)
+            throws JSQLParserException {
+        if (sql == null || sql.isEmpty()) {
+            return null;
+        }
+
+        // the parser must neither change the configuration of the caller nor the key
+        FeatureConfiguration frozen = configuration.freeze();
+        Key key = new Key(sql, frozen);
+
+        List<Token> literals = normalizeLiterals ? getLiterals(sql, frozen) : null;
+        Key shapeKey = literals != null ? new Key(getShape(sql, literals), frozen) : null;
+
+        Statement cached = null;
+        boolean isShape = false;
+        synchronized (entries) {
+            if (shapeKey != null) {
+                cached = entries.get(shapeKey);
+                isShape = cached != null;
+            }
+            if (cached == null) {
+                cached = entries.get(key);
+            }
+            if (cached != null) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+        }
+        if (cached != null) {
+            // the cached Statement is never changed, so it can be copied outside of the lock
+            Statement statement = ModelCopier.copy(cached);
+            if (!isShape || bind(getLiteralValues(statement), literals, false)) {
+                return statement;
+            }
+        }
+
+        Statement statement =
+                CCJSqlParserUtil.parse(sql, parser -> parser.withConfiguration(frozen));
+        if (shapeKey != null && hasDistinctImages(literals)
+                && bind(getLiteralValues(statement), literals, true)) {
+            key = shapeKey;
+        }
+        cached = ModelCopier.copy(statement);
+        synchronized (entries) {
+            entries.put(key, cached);
+        }
+        return statement;
+    }
+
+    /**
+     * @return the literal tokens of the SQL text or <code>null</code>, if it can't be lexed
+     */
+    private static List<Token> getLiterals(String sql, FeatureConfiguration configuration) {
+        List<Token> literals = new ArrayList<>();
+        CCJSqlParserTokenManager tokenManager =
+                new CCJSqlParserTokenManager(new SimpleCharStream(new StringProvider(sql)));
+        tokenManager.configuration = configuration;
+        try {
+            for (Token token = tokenManager.getNextToken(); token.kind != CCJSqlParserConstants.EOF;
+                    token = tokenManager.getNextToken()) {
+                if (token.kind == CCJSqlParserConstants.S_LONG
+                        || token.kind == CCJSqlParserConstants.S_DOUBLE
+                        || token.kind == CCJSqlParserConstants.S_CHAR_LITERAL) {
+                    // the absolute positions are counted from 1
+                    if (!sql.startsWith(token.image, token.absoluteBegin - 1)) {
+                        return null;
+                    }
+                    literals.add(token);
+                }
+            }
+        } catch (TokenMgrException ex) {
+            return null;
+        }
+        return literals;
+    }
+
+    /**
+     * The literal values are written in the order of the deparser (e.g. LIMIT before OFFSET), which
+     * may differ from the order of the literal tokens. Only when all images differ, matching the
+     * values to the tokens one by one proves that both orders are the same.
+     */
+    private static boolean hasDistinctImages(List<Token> literals) {
+        Set<String> images = new HashSet<>();
+        for (Token literal : literals) {
+            if (!images.add(literal.image)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getShape(String sql, List<Token> literals) {
+        StringBuilder builder = new StringBuilder(sql.length());
+        int position = 0;
+        for (Token literal : literals) {
+            builder.append(sql, position, literal.absoluteBegin - 1).append(PLACEHOLDER)
+                    .append((char) literal.kind);
+            position = literal.absoluteEnd - 1;
+        }
+        return builder.append(sql, position, sql.length()).toString();
+    }
+
+    /**
+     * @return the literal values of the Statement in the order they have been written
+     */
+    private static List<Expression> getLiteralValues(Statement statement) {
+        LiteralCollector collector = new LiteralCollector();
+        statement.accept(
+                new StatementDeParser(collector, new SelectDeParser(), new StringBuilder()));
+        return collector.values;
+    }
+
+    /**
+     * Binds the literal tokens to the literal values one by one.
+     *
+     * @param verify TRUE for verifying only, that all literal tokens match the literal values
+     * @return TRUE when all literal tokens match
+     */
+    private static boolean bind(List<Expression> values, List<Token> literals, boolean verify) {
+        if (values.size() != literals.size()) {
+            return false;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            Expression value = values.get(i);
+            Token literal = literals.get(i);
+            if (value instanceof LongValue && literal.kind == CCJSqlParserConstants.S_LONG) {
+                LongValue longValue = (LongValue) value;
+                if (verify && !literal.image.equals(longValue.getStringValue())) {
+                    return false;
+                }
+                longValue.setStringValue(literal.image);
+            } else if (value instanceof DoubleValue
+                    && literal.kind == CCJSqlParserConstants.S_DOUBLE) {
+                DoubleValue doubleValue = (DoubleValue) value;
+                if (verify && !literal.image.equals(doubleValue.getStringValue())) {
+                    return false;
+                }
+                doubleValue.setStringValue(literal.image);
+            } else if (value instanceof StringValue
+                    && literal.kind == CCJSqlParserConstants.S_CHAR_LITERAL) {
+                StringValue stringValue = (StringValue) value;
+                StringValue boundValue = new StringValue(literal.image);
+                if (verify && !boundValue.toString().equals(stringValue.toString())) {
+                    return false;
+                }
+                stringValue.setPrefix(boundValue.getPrefix());
+                stringValue.setValue(boundValue.getValue());
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public boolean isNormalizeLiterals() {
+        return normalizeLiterals;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (entries) {
+            return hitCount;
+        }
+    }
+
+    public long getMissCount() {
+        synchronized (entries) {
+            return missCount;
+        }
+    }
+
+    public long getEvictionCount() {
+        synchronized (entries) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * @return the ratio of hits to all requests, or 0 when nothing has been requested yet
+     */
+    public double getHitRate() {
+        synchronized (entries) {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 0d : (double) hitCount / requestCount;
+        }
+    }
+
+    private static final class Key {
+        private final String sql;
+        private final Object[] featureValues;
+        private final int hashCode;
+
+        Key(String sql, FeatureConfiguration configuration) {
+            this.sql = sql;
+            this.featureValues = new Object[KEY_FEATURES.size()];
+            for (int i = 0; i < featureValues.length; i++) {
+                // normalize, since a feature may be set as Boolean or String
+                featureValues[i] = configuration.getAsString(KEY_FEATURES.get(i));
+            }
+            this.hashCode = 31 * sql.hashCode() + Arrays.hashCode(featureValues);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hashCode == key.hashCode && Objects.equals(sql, key.sql)
+                    && Arrays.equals(featureValues, key.featureValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class LiteralCollector extends ExpressionDeParser {
+        private final List<Expression> values = new ArrayList<>();
+
+        @Override
+        public <S> StringBuilder visit(LongValue longValue, S context) {
+            values.add(longValue);
+            return super.visit(longValue, context);
+        }
+
+        @Override
+        public <S> StringBuilder visit(DoubleValue doubleValue, S context) {
+            values.add(doubleValue);
+            return super.visit(doubleValue, context);
+        }
+
+        @Override
+        public <S> StringBuilder visit(StringValue stringValue, S context) {
+            values.add(stringValue);
+            return super.visit(stringValue, context);
+        }
+    }
+}
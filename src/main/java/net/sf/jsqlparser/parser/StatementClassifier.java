@@ -0,0 +1,433 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.statement.Commit;
+import net.sf.jsqlparser.statement.RollbackStatement;
+import net.sf.jsqlparser.statement.SavepointStatement;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.alter.Alter;
+import net.sf.jsqlparser.statement.create.index.CreateIndex;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.view.CreateView;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.merge.Merge;
+import net.sf.jsqlparser.statement.select.ForMode;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.statement.upsert.Upsert;
+
+/**
+ * Classifies a statement from its tokens only, e.g. for routing it to a read only replica. The
+ * tokens are read one by one (comments and optimizer hints are skipped by the lexer) and looked at
+ * with a lookahead of at most two tokens. Queries are read to their end, since a locking clause, a
+ * data modifying common table expression or a following statement may come last. Only when the
+ * tokens do not tell the kind, e.g. for a block or an IF statement, the statement gets parsed.
+ * <p>
+ * A classifier can be shared by threads, as long as its configuration does not change (see
+ * {@link FeatureConfiguration#freeze()}).
+ *
+ * <pre>
+ * StatementClassifier.Classification classification = new StatementClassifier().classify(sql);
+ * DataSource dataSource = classification.isReadOnly() ? replica : primary;
+ * </pre>
+ */
+public class StatementClassifier {
+    // the kinds of the literal tokens, which have no names in the grammar
+    private static final int OPENING_BRACKET =
+            Arrays.asList(CCJSqlParserConstants.tokenImage).indexOf("\"(\"");
+    private static final int CLOSING_BRACKET =
+            Arrays.asList(CCJSqlParserConstants.tokenImage).indexOf("\")\"");
+
+    private final FeatureConfiguration configuration;
+
+    public StatementClassifier() {
+        this(new FeatureConfiguration().freeze());
+    }
+
+    /**
+     * @param configuration the features for the lexer and for the parser, when needed
+     */
+    public StatementClassifier(FeatureConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @param sql the text of the statement
+     * @return the classification of the (first) statement
+     */
+    public Classification classify(String sql) {
+        if (sql.isEmpty()) {
+            return new Classification(StatementKind.UNKNOWN);
+        }
+        CCJSqlParserTokenManager tokenManager =
+                new AsciiTokenManager(new SimpleCharStream(new StringProvider(sql)));
+        tokenManager.configuration = configuration;
+        Classification classification;
+        try {
+            classification = new Scan(tokenManager).classify();
+        } catch (TokenMgrException ex) {
+            // leave the lexical error to the parser
+            classification = null;
+        }
+        return classification != null ? classification : parse(sql);
+    }
+
+    private Classification parse(String sql) {
+        Statement statement;
+        try {
+            statement = CCJSqlParserUtil.parse(sql,
+                    parser -> parser.withConfiguration(configuration));
+        } catch (JSQLParserException ex) {
+            return new Classification(StatementKind.UNKNOWN);
+        }
+
+        StatementKind kind;
+        if (statement instanceof Select) {
+            kind = StatementKind.SELECT;
+        } else if (statement instanceof Insert || statement instanceof Upsert) {
+            kind = StatementKind.INSERT;
+        } else if (statement instanceof Update) {
+            kind = StatementKind.UPDATE;
+        } else if (statement instanceof Delete) {
+            kind = StatementKind.DELETE;
+        } else if (statement instanceof Merge) {
+            kind = StatementKind.MERGE;
+        } else if (statement instanceof CreateTable || statement instanceof CreateIndex
+                || statement instanceof CreateView || statement instanceof Alter
+                || statement instanceof Drop || statement instanceof Truncate) {
+            kind = StatementKind.DDL;
+        } else if (statement instanceof Commit || statement instanceof RollbackStatement
+                || statement instanceof SavepointStatement) {
+            kind = StatementKind.TRANSACTION;
+        } else {
+            kind = StatementKind.OTHER;
+        }
+        Classification classification = new Classification(kind);
+        classification.parsed = true;
+        return classification;
+    }
+
+    /**
+     * The classification of a statement. A statement is only deemed read only, when this is told
+     * by its tokens.
+     */
+    public static final class Classification {
+        private final StatementKind kind;
+        private boolean readOnly = false;
+        private ForMode forMode = null;
+        private boolean dataModifyingCte = false;
+        private boolean selectInto = false;
+        private boolean moreStatements = false;
+        private boolean parsed = false;
+
+        Classification(StatementKind kind) {
+            this.kind = kind;
+        }
+
+        public StatementKind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return <code>true</code> for a query without locking clause, data modifying
+         *         common table expression and INTO clause, or for a SHOW or DESCRIBE statement,
+         *         when no further statement follows
+         */
+        public boolean isReadOnly() {
+            return readOnly;
+        }
+
+        /**
+         * @return the locking clause of a query, like FOR UPDATE, or <code>null</code>
+         */
+        public ForMode getForMode() {
+            return forMode;
+        }
+
+        /**
+         * @return <code>true</code>, when a query contains an INSERT, UPDATE, DELETE or MERGE,
+         *         usually as a common table expression
+         */
+        public boolean hasDataModifyingCte() {
+            return dataModifyingCte;
+        }
+
+        /**
+         * @return <code>true</code> for a SELECT ... INTO, which writes a table or a file
+         */
+        public boolean isSelectInto() {
+            return selectInto;
+        }
+
+        /**
+         * @return <code>true</code>, when another statement follows the classified one
+         */
+        public boolean hasMoreStatements() {
+            return moreStatements;
+        }
+
+        /**
+         * @return <code>true</code>, when the statement had to be parsed to tell its kind
+         */
+        public boolean isParsed() {
+            return parsed;
+        }
+
+        @Override
+        public String toString() {
+            return kind + (readOnly ? " (read only)" : "");
+        }
+    }
+
+    /**
+     * The state of reading the tokens of a single text.
+     */
+    private static final class Scan {
+        private final CCJSqlParserTokenManager tokenManager;
+        // the kinds of the two tokens before the current one
+        private int previousKind = -1;
+        private int secondPreviousKind = -1;
+        private int currentKind = -1;
+        // the bracket depth of the current token, relative to the opening brackets of the query
+        private int depth = 0;
+
+        Scan(CCJSqlParserTokenManager tokenManager) {
+            this.tokenManager = tokenManager;
+        }
+
+        private Token next() {
+            if (currentKind == OPENING_BRACKET) {
+                depth++;
+            }
+            Token token = tokenManager.getNextToken();
+            if (token.kind == CLOSING_BRACKET) {
+                depth--;
+            }
+            secondPreviousKind = previousKind;
+            previousKind = currentKind;
+            currentKind = token.kind;
+            return token;
+        }
+
+        private static boolean isIdentifier(Token token, String... words) {
+            if (token.kind != CCJSqlParserConstants.S_IDENTIFIER) {
+                return false;
+            }
+            String image = token.image.toUpperCase(Locale.ROOT);
+            for (String word : words) {
+                if (word.equals(image)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isEnd(Token token) {
+            return token.kind == CCJSqlParserConstants.EOF
+                    || token.kind == CCJSqlParserConstants.ST_SEMICOLON;
+        }
+
+        /**
+         * @return the classification, or <code>null</code> when the tokens do not tell
+         */
+        Classification classify() {
+            Token token = next();
+            while (token.kind == OPENING_BRACKET) {
+                token = next();
+            }
+            depth = 0;
+
+            switch (token.kind) {
+                case CCJSqlParserConstants.K_SELECT:
+                case CCJSqlParserConstants.K_VALUES:
+                case CCJSqlParserConstants.K_TABLE:
+                case CCJSqlParserConstants.K_FROM:
+                    return classifyQuery(StatementKind.SELECT);
+                case CCJSqlParserConstants.K_WITH:
+                    return classifyQuery(null);
+                case CCJSqlParserConstants.K_INSERT:
+                case CCJSqlParserConstants.K_REPLACE:
+                case CCJSqlParserConstants.K_UPSERT:
+                    return new Classification(StatementKind.INSERT);
+                case CCJSqlParserConstants.K_UPDATE:
+                    return new Classification(StatementKind.UPDATE);
+                case CCJSqlParserConstants.K_DELETE:
+                    return new Classification(StatementKind.DELETE);
+                case CCJSqlParserConstants.K_MERGE:
+                    return new Classification(StatementKind.MERGE);
+                case CCJSqlParserConstants.K_CREATE:
+                case CCJSqlParserConstants.K_ALTER:
+                case CCJSqlParserConstants.K_DROP:
+                case CCJSqlParserConstants.K_TRUNCATE:
+                case CCJSqlParserConstants.K_RENAME:
+                case CCJSqlParserConstants.K_COMMENT:
+                case CCJSqlParserConstants.K_GRANT:
+                    return new Classification(StatementKind.DDL);
+                case CCJSqlParserConstants.K_COMMIT:
+                case CCJSqlParserConstants.K_ROLLBACK:
+                case CCJSqlParserConstants.K_SAVEPOINT:
+                    return new Classification(StatementKind.TRANSACTION);
+                case CCJSqlParserConstants.K_BEGIN:
+                case CCJSqlParserConstants.K_END:
+                    // a block starts with BEGIN, too
+                    token = next();
+                    return isEnd(token) || token.kind == CCJSqlParserConstants.K_WORK
+                            || isIdentifier(token, "TRANSACTION", "TRAN")
+                                    ? new Classification(StatementKind.TRANSACTION)
+                                    : null;
+                case CCJSqlParserConstants.K_START:
+                    return isIdentifier(next(), "TRANSACTION")
+                            ? new Classification(StatementKind.TRANSACTION)
+                            : null;
+                case CCJSqlParserConstants.K_SET:
+                    return isIdentifier(next(), "TRANSACTION")
+                            ? new Classification(StatementKind.TRANSACTION)
+                            : new Classification(StatementKind.OTHER);
+                case CCJSqlParserConstants.K_SHOW:
+                case CCJSqlParserConstants.K_DESCRIBE:
+                case CCJSqlParserConstants.K_DESC:
+                    return classifyReadOnly(new Classification(StatementKind.OTHER));
+                case CCJSqlParserConstants.K_USE:
+                case CCJSqlParserConstants.K_EXPLAIN:
+                case CCJSqlParserConstants.K_CALL:
+                case CCJSqlParserConstants.K_EXEC:
+                case CCJSqlParserConstants.K_EXECUTE:
+                    return new Classification(StatementKind.OTHER);
+                default:
+                    if (isIdentifier(token, "RELEASE", "ABORT")) {
+                        return new Classification(StatementKind.TRANSACTION);
+                    } else if (isIdentifier(token, "REVOKE")) {
+                        return new Classification(StatementKind.DDL);
+                    }
+                    return null;
+            }
+        }
+
+        /**
+         * Reads a query to its end.
+         *
+         * @param queryKind the kind, or <code>null</code> when it is told by the first keyword
+         *        after the common table expressions
+         */
+        private Classification classifyQuery(StatementKind queryKind) {
+            StatementKind kind = queryKind;
+            ForMode forMode = null;
+            boolean dataModifyingCte = false;
+            boolean selectInto = false;
+            for (Token token = next(); !isEnd(token) || depth > 0; token = next()) {
+                if (token.kind == CCJSqlParserConstants.EOF) {
+                    break;
+                }
+                switch (token.kind) {
+                    case CCJSqlParserConstants.K_UPDATE:
+                        if (previousKind == CCJSqlParserConstants.K_FOR) {
+                            forMode = ForMode.UPDATE;
+                        } else if (previousKind == CCJSqlParserConstants.K_KEY
+                                && secondPreviousKind == CCJSqlParserConstants.K_NO) {
+                            forMode = ForMode.NO_KEY_UPDATE;
+                        } else if (kind == null && depth == 0) {
+                            return new Classification(StatementKind.UPDATE);
+                        } else {
+                            dataModifyingCte = true;
+                        }
+                        break;
+                    case CCJSqlParserConstants.K_INSERT:
+                    case CCJSqlParserConstants.K_DELETE:
+                    case CCJSqlParserConstants.K_MERGE:
+                        if (kind == null && depth == 0) {
+                            // the modifying statement after the common table expressions
+                            return new Classification(getModifyingKind(token.kind));
+                        }
+                        dataModifyingCte = true;
+                        break;
+                    case CCJSqlParserConstants.K_SHARE:
+                        if (previousKind == CCJSqlParserConstants.K_FOR
+                                || previousKind == CCJSqlParserConstants.K_IN
+                                        && secondPreviousKind == CCJSqlParserConstants.K_LOCK) {
+                            forMode = ForMode.SHARE;
+                        } else if (previousKind == CCJSqlParserConstants.K_KEY
+                                && secondPreviousKind == CCJSqlParserConstants.K_FOR) {
+                            forMode = ForMode.KEY_SHARE;
+                        }
+                        break;
+                    case CCJSqlParserConstants.K_SELECT:
+                    case CCJSqlParserConstants.K_VALUES:
+                    case CCJSqlParserConstants.K_TABLE:
+                        if (kind == null && depth == 0) {
+                            kind = StatementKind.SELECT;
+                        }
+                        break;
+                    case CCJSqlParserConstants.K_INTO:
+                        selectInto |= kind == StatementKind.SELECT && depth == 0;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            if (kind == null) {
+                return null;
+            }
+            Classification classification = new Classification(kind);
+            classification.forMode = forMode;
+            classification.dataModifyingCte = dataModifyingCte;
+            classification.selectInto = selectInto;
+            classification.moreStatements = hasMoreStatements();
+            classification.readOnly = forMode == null && !dataModifyingCte && !selectInto
+                    && !classification.moreStatements;
+            return classification;
+        }
+
+        private static StatementKind getModifyingKind(int tokenKind) {
+            switch (tokenKind) {
+                case CCJSqlParserConstants.K_INSERT:
+                    return StatementKind.INSERT;
+                case CCJSqlParserConstants.K_DELETE:
+                    return StatementKind.DELETE;
+                default:
+                    return StatementKind.MERGE;
+            }
+        }
+
+        /**
+         * Reads a read only statement to its end.
+         */
+        private Classification classifyReadOnly(Classification classification) {
+            for (Token token = next(); !isEnd(token) || depth > 0; token = next()) {
+                if (token.kind == CCJSqlParserConstants.EOF) {
+                    break;
+                }
+            }
+            classification.moreStatements = hasMoreStatements();
+            classification.readOnly = !classification.moreStatements;
+            return classification;
+        }
+
+        /**
+         * @return <code>true</code>, when another statement follows the semicolons after the
+         *         current token
+         */
+        private boolean hasMoreStatements() {
+            Token token = currentKind == CCJSqlParserConstants.EOF ? null : next();
+            while (token != null && token.kind == CCJSqlParserConstants.ST_SEMICOLON) {
+                token = next();
+            }
+            return token != null && token.kind != CCJSqlParserConstants.EOF;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+/**
+ * The coarse kind of a statement, as told by the {@link StatementClassifier}.
+ */
+public enum StatementKind {
+    /**
+     * A query, including VALUES, TABLE and queries with common table expressions
+     */
+    SELECT,
+
+    /**
+     * INSERT, REPLACE and UPSERT
+     */
+    INSERT,
+
+    UPDATE,
+
+    DELETE,
+
+    MERGE,
+
+    /**
+     * CREATE, ALTER, DROP, TRUNCATE, RENAME, COMMENT, GRANT and REVOKE
+     */
+    DDL,
+
+    /**
+     * BEGIN, START, COMMIT, ROLLBACK, SAVEPOINT and the like
+     */
+    TRANSACTION,
+
+    /**
+     * Any other statement, like SET, SHOW, CALL or a block
+     */
+    OTHER,
+
+    /**
+     * A statement, which neither the tokens nor the parser could tell
+     */
+    UNKNOWN
+}
@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.Reader;
+import java.util.Spliterator;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.ParsingStrategy;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * Parses the statements of a {@link Reader} one by one, only when the next one is requested. So the
+ * consumer controls the pace and the memory held stays bounded by the largest statement, even for
+ * logs of several gigabytes.
+ * <p>
+ * A statement which can't be parsed does not end the stream: its error is reported as a
+ * {@link ParseResult} together with the skipped text, and parsing resumes after the next statement
+ * delimiter. The {@link Feature#timeOut} applies to each statement and is enforced cooperatively
+ * within the consuming thread. Since the stream can't be rewound, each statement is parsed once in
+ * the configured mode (see {@link Feature#allowComplexParsing}), except for statements nested too
+ * deeply for COMPLEX parsing.
+ *
+ * @see CCJSqlParserUtil#streamStatements(Reader, Consumer)
+ */
+public class StatementSpliterator implements Spliterator<ParseResult> {
+    private final CCJSqlParser parser;
+    private boolean finished = false;
+
+    /**
+     * @param reader the reader providing the statements
+     * @param consumer the consumer for configuring the parser, or <code>null</code>
+     */
+    public StatementSpliterator(Reader reader, Consumer<CCJSqlParser> consumer) {
+        this(new StreamProvider(reader), consumer);
+    }
+
+    /**
+     * @param provider the provider of the statements, e.g. a {@link MappedFileProvider}
+     * @param consumer the consumer for configuring the parser, or <code>null</code>
+     */
+    public StatementSpliterator(Provider provider, Consumer<CCJSqlParser> consumer) {
+        parser = new CCJSqlParser(provider);
+        if (consumer != null) {
+            consumer.accept(parser);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ParseResult> action) {
+        if (finished) {
+            return false;
+        }
+
+        ParseResult result;
+        try {
+            while (parser.getToken(1).kind == CCJSqlParserConstants.ST_SEMICOLON) {
+                parser.getNextToken();
+            }
+            if (parser.getToken(1).kind == CCJSqlParserConstants.EOF) {
+                finished = true;
+                return false;
+            }
+            result = parseNext();
+        } catch (TokenMgrException ex) {
+            // the char stream can't be resumed after a lexical error
+            finished = true;
+            result = ParseResult.of(new JSQLParserException(ex), "");
+        }
+        action.accept(result);
+        return true;
+    }
+
+    private ParseResult parseNext() {
+        Token start = detach();
+        long timeOut = parser.getConfiguration().getTimeOut();
+        // the deadline and the budgets count for each statement anew
+        parser.withDeadline(timeOut).recover();
+
+        boolean allowComplexParsing = parser.getAsBoolean(Feature.allowComplexParsing);
+        JSQLParserException exception;
+        try {
+            // like the ADAPTIVE strategy, parse too deeply nested statements SIMPLE only
+            if (allowComplexParsing && parser.getParsingStrategy() != ParsingStrategy.COMPLEX_ONLY
+                    && getNestingDepth() > CCJSqlParserUtil.ALLOWED_NESTING_DEPTH) {
+                parser.withAllowComplexParsing(false);
+            }
+            Statement statement = parser.Statement();
+            if (!parser.isTimedOut()) {
+                return ParseResult.of(statement);
+            }
+            exception = newTimeOutException(timeOut);
+        } catch (ParseException | RuntimeException ex) {
+            exception = parser.isTimedOut()
+                    ? newTimeOutException(timeOut)
+                    : new JSQLParserException(ex);
+        } finally {
+            parser.recover();
+            parser.withAllowComplexParsing(allowComplexParsing);
+        }
+
+        // skip the rest of the failed statement, without the costly error report of the grammar
+        Token last = parser.token;
+        while (last == start || last.kind != CCJSqlParserConstants.ST_SEMICOLON
+                && last.kind != CCJSqlParserConstants.EOF) {
+            try {
+                last = parser.getNextToken();
+            } catch (ParseBudgetExceededException ex) {
+                // the rest of a statement exceeding the token budget is skipped nevertheless
+                parser.recover();
+            }
+        }
+        StringJoiner skippedText = new StringJoiner(" ");
+        for (Token token = start.next; token != null; token = token.next) {
+            if (token.kind != CCJSqlParserConstants.ST_SEMICOLON
+                    && token.kind != CCJSqlParserConstants.EOF) {
+                skippedText.add(token.image);
+            }
+            if (token == parser.token) {
+                break;
+            }
+        }
+        return ParseResult.of(exception, skippedText.toString());
+    }
+
+    /**
+     * Looks ahead up to the next statement delimiter, so the tokens of one statement are held at
+     * most.
+     *
+     * @return the maximum depth of parentheses of the next statement
+     */
+    private int getNestingDepth() {
+        int level = 0;
+        int maxLevel = 0;
+        Token token = parser.getToken(1);
+        while (token.kind != CCJSqlParserConstants.ST_SEMICOLON
+                && token.kind != CCJSqlParserConstants.EOF) {
+            if ("(".equals(token.image)) {
+                maxLevel = Math.max(maxLevel, ++level);
+            } else if (")".equals(token.image)) {
+                level--;
+            }
+            if (token.next == null) {
+                token.next = parser.token_source.getNextToken();
+            }
+            token = token.next;
+        }
+        return maxLevel;
+    }
+
+    /**
+     * Cuts the chain of tokens before the next statement, so the statements handed out do not
+     * keep all later tokens reachable.
+     *
+     * @return the token preceding the next statement
+     */
+    private Token detach() {
+        Token last = parser.token;
+        Token start = new Token();
+        start.next = last.next;
+        last.next = null;
+        parser.token = start;
+        return start;
+    }
+
+    private static JSQLParserException newTimeOutException(long timeOut) {
+        return new JSQLParserException("Time out occurred.",
+                new TimeoutException("Parsing exceeded " + timeOut + " ms."));
+    }
+
+    @Override
+    public Spliterator<ParseResult> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
@@ -792,6 +792,58 @@ public enum Feature {
      * allows sub selects without parentheses, e.g. `select * from dual where 1 = select 1`
      */
     allowUnparenthesizedSubSelects(false),
+
+    /**
+     * decides between SIMPLE and COMPLEX parsing, when {@link #allowComplexParsing} is enabled
+     *
+     * @see ParsingStrategy
+     */
+    parsingStrategy(ParsingStrategy.ADAPTIVE),
+
+    /**
+     * links the parsed model to the jjtree nodes and so to the tokens of the statement, see
+     * {@link net.sf.jsqlparser.parser.ASTNodeAccess#getASTNode()}. Switch it off, when the
+     * statements are held for long (e.g. cached), to retain the model only
+     */
+    retainAstNodes(true),
+
+    /**
+     * skips sub selects in brackets and the statements of BEGIN ... END blocks, which are parsed
+     * only when first asked for, see {@link net.sf.jsqlparser.parser.DeferredParse}. Switch it on,
+     * when only the outline of the statements is needed, e.g. for routing them
+     */
+    lazyParsing(false),
+
+    /**
+     * parses chains of AND, OR and || into one node with all their operands, see
+     * {@link net.sf.jsqlparser.util.cnfexpression.MultiAndExpression},
+     * {@link net.sf.jsqlparser.util.cnfexpression.MultiOrExpression} and
+     * {@link net.sf.jsqlparser.expression.operators.arithmetic.MultiConcat}, instead of nesting
+     * binary expressions as deep as the chain is long
+     */
+    flatOperators(false),
+
+    /**
+     * the maximum number of tokens the lexer of a parser reads from the statement text. Every token
+     * counts once, when it is lexed: the lookaheads reading it again do not count, see
+     * {@link #maxLookaheadSteps} for those. The budgets fail the parser deterministically with a
+     * {@link net.sf.jsqlparser.parser.ParseBudgetExceededException}, no matter how loaded the
+     * machine is. 0 for no limit
+     */
+    maxTokens(0L),
+
+    /**
+     * the maximum number of lookahead steps a parser takes at the alternatives prone to
+     * backtracking, which also check the {@link #timeOut}. 0 for no limit
+     */
+    maxLookaheadSteps(0L),
+
+    /**
+     * the maximum nesting depth of the round brackets in the statement text, counted by the lexer.
+     * Nesting without brackets (e.g. CASE expressions or chains of operators) is not counted, so
+     * this does not bound the recursion of the parser in general. 0 for no limit
+     */
+    maxDepth(0L),
     ;
 
     private final Object value;
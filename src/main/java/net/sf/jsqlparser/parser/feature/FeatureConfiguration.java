@@ -19,7 +19,7 @@ public class FeatureConfiguration {
 
     private static final Logger LOG = Logger.getLogger(FeatureConfiguration.class.getName());
 
-    private Map<Feature, Object> featureEnabled = new EnumMap<>(Feature.class);
+    private final Map<Feature, Object> featureEnabled = new EnumMap<>(Feature.class);
 
     public FeatureConfiguration() {
         // set default-value for all switchable features
@@ -27,6 +27,42 @@ public class FeatureConfiguration {
                 .forEach(f -> setValue(f, f.getDefaultValue()));
     }
 
+    /**
+     * @param configuration the configuration to copy
+     */
+    protected FeatureConfiguration(FeatureConfiguration configuration) {
+        featureEnabled.putAll(configuration.featureEnabled);
+    }
+
+    /**
+     * @return an immutable snapshot of this configuration, which can be shared by the parsers of
+     *         all threads
+     * @see FrozenFeatureConfiguration
+     */
+    public FeatureConfiguration freeze() {
+        return new FrozenFeatureConfiguration(this);
+    }
+
+    /**
+     * @return <code>true</code> for an immutable configuration
+     * @see #freeze()
+     */
+    public boolean isFrozen() {
+        return false;
+    }
+
+    /**
+     * Sets the feature value, like {@link #setValue(Feature, Object)}. An immutable configuration
+     * returns a configuration with the changed value instead.
+     *
+     * @param feature
+     * @param value
+     * @return the configuration with the feature value
+     */
+    public FeatureConfiguration with(Feature feature, Object value) {
+        return setValue(feature, value);
+    }
+
     /**
      * @param feature
      * @param value
@@ -43,6 +79,17 @@ public class FeatureConfiguration {
         return this;
     }
 
+    /**
+     * Takes over all feature values of the other configuration, without allocating.
+     *
+     * @param other the configuration to copy
+     * @return <code>this</code>
+     */
+    public FeatureConfiguration copyFrom(FeatureConfiguration other) {
+        featureEnabled.putAll(other.featureEnabled);
+        return this;
+    }
+
     /**
      * @param feature
      * @return the configured feature value - can be <code>null</code>
@@ -57,11 +104,35 @@ public class FeatureConfiguration {
     }
 
     public boolean getAsBoolean(Feature f) {
-        return Boolean.parseBoolean(String.valueOf(getValue(f)));
+        Object value = getValue(f);
+        return value instanceof Boolean
+                ? (Boolean) value
+                : Boolean.parseBoolean(String.valueOf(value));
     }
 
     public Long getAsLong(Feature f) {
-        return Long.valueOf(String.valueOf(getValue(f)));
+        Object value = getValue(f);
+        return value instanceof Long ? (Long) value : Long.valueOf(String.valueOf(value));
+    }
+
+    /**
+     * @return the {@link Feature#timeOut} in milliseconds
+     */
+    public long getTimeOut() {
+        return getAsLong(Feature.timeOut);
+    }
+
+    /**
+     * @param f the feature
+     * @param enumClass the class of the enum value
+     * @return the configured enum value, which may also be configured by its name
+     */
+    public <E extends Enum<E>> E getAsEnum(Feature f, Class<E> enumClass) {
+        Object value = getValue(f);
+        if (value == null || enumClass.isInstance(value)) {
+            return enumClass.cast(value);
+        }
+        return Enum.valueOf(enumClass, String.valueOf(value).toUpperCase());
     }
 
     public String getAsString(Feature f) {
@@ -69,4 +140,11 @@ public class FeatureConfiguration {
         return value == null ? null : String.valueOf(value);
     }
 
+    /**
+     * @return the feature values, which must not be modified
+     */
+    Map<Feature, Object> getValues() {
+        return featureEnabled;
+    }
+
 }
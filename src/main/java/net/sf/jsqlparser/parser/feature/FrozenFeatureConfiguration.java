@@ -0,0 +1,129 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser.feature;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable {@link FeatureConfiguration}, which is compiled once: the boolean features are held
+ * in an array indexed by the feature and the {@link Feature#timeOut} as a primitive, so the
+ * semantic lookaheads of the parser don't convert any values. Since it can't change, one instance
+ * can be shared by the parsers of all threads:
+ *
+ * <pre>
+ * FeatureConfiguration configuration = new FeatureConfiguration()
+ *         .setValue(Feature.allowSquareBracketQuotation, true).freeze();
+ * CCJSqlParserUtil.parse(sql, parser -&gt; parser.withConfiguration(configuration));
+ * </pre>
+ *
+ * Changing a feature of a parser (e.g. switching between SIMPLE and COMPLEX parsing) replaces its
+ * configuration with a frozen variant, see {@link #with(Feature, Object)}.
+ */
+public final class FrozenFeatureConfiguration extends FeatureConfiguration {
+    private static final Feature[] FEATURES = Feature.values();
+
+    private final boolean[] booleans = new boolean[FEATURES.length];
+    private final long timeOut;
+
+    // the variants by their changed feature value, and all variants derived from the same origin;
+    // only the switches are cached, so there are at most as many as combinations of them
+    private final Map<Map.Entry<Feature, Object>, FrozenFeatureConfiguration> variants =
+            new ConcurrentHashMap<>();
+    private final Map<Map<Feature, Object>, FrozenFeatureConfiguration> family;
+
+    FrozenFeatureConfiguration(FeatureConfiguration configuration) {
+        this(configuration, new ConcurrentHashMap<>());
+        family.put(getValues(), this);
+    }
+
+    private FrozenFeatureConfiguration(FeatureConfiguration configuration,
+            Map<Map<Feature, Object>, FrozenFeatureConfiguration> family) {
+        super(configuration);
+        this.family = family;
+        for (Feature feature : FEATURES) {
+            if (feature.isConfigurable()) {
+                booleans[feature.ordinal()] = super.getAsBoolean(feature);
+            }
+        }
+        timeOut = super.getAsLong(Feature.timeOut);
+    }
+
+    @Override
+    public FeatureConfiguration freeze() {
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return true;
+    }
+
+    /**
+     * @return this configuration when the value is unchanged, or else the frozen variant with the
+     *         changed value, which is created only once for a boolean or an enum value, but anew
+     *         for any other value like a {@link Feature#timeOut}
+     */
+    @Override
+    public FeatureConfiguration with(Feature feature, Object value) {
+        if (!feature.isConfigurable() || Objects.equals(getValue(feature), value)) {
+            return this;
+        }
+        if (!(value instanceof Boolean || value instanceof Enum)) {
+            // there is no end to such values, so the variant starts a family of its own
+            return new FrozenFeatureConfiguration(
+                    new FeatureConfiguration(this).setValue(feature, value));
+        }
+        return variants.computeIfAbsent(new SimpleImmutableEntry<>(feature, value), key -> {
+            Map<Feature, Object> values = new EnumMap<>(getValues());
+            values.put(feature, value);
+            return family.computeIfAbsent(values, k -> new FrozenFeatureConfiguration(
+                    new FeatureConfiguration(this).setValue(feature, value), family));
+        });
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, use {@link #with(Feature, Object)} instead
+     */
+    @Override
+    public FeatureConfiguration setValue(Feature feature, Object value) {
+        throw new UnsupportedOperationException(
+                "The configuration is frozen, cannot set " + feature + " = " + value);
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public FeatureConfiguration copyFrom(FeatureConfiguration other) {
+        throw new UnsupportedOperationException("The configuration is frozen.");
+    }
+
+    @Override
+    public boolean getAsBoolean(Feature f) {
+        if (!f.isConfigurable()) {
+            throw new IllegalStateException("The feature " + f + " is not configurable!");
+        }
+        return booleans[f.ordinal()];
+    }
+
+    @Override
+    public Long getAsLong(Feature f) {
+        return f == Feature.timeOut ? Long.valueOf(timeOut) : super.getAsLong(f);
+    }
+
+    @Override
+    public long getTimeOut() {
+        return timeOut;
+    }
+}
@@ -0,0 +1,33 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser.feature;
+
+/**
+ * Decides whether a statement is parsed in SIMPLE mode, in COMPLEX mode (see
+ * {@link Feature#allowComplexParsing}) or in both.
+ */
+public enum ParsingStrategy {
+    /**
+     * Chooses the mode up front: statements too deeply nested for COMPLEX parsing are parsed SIMPLE
+     * only, statements of a shape which needed COMPLEX parsing before are parsed COMPLEX only. All
+     * others are parsed SIMPLE first and COMPLEX only when SIMPLE parsing failed.
+     */
+    ADAPTIVE,
+
+    /**
+     * Parses SIMPLE only and fails fast, when SIMPLE parsing fails.
+     */
+    SIMPLE_ONLY,
+
+    /**
+     * Parses COMPLEX only, avoiding the SIMPLE attempt for statements known to need it.
+     */
+    COMPLEX_ONLY
+}
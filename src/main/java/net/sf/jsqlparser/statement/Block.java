@@ -9,17 +9,67 @@
  */
 package net.sf.jsqlparser.statement;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.DeferredParse;
+
 public class Block implements Statement {
     private boolean hasSemicolonAfterEnd = false;
 
     private Statements statements;
+    private transient volatile DeferredParse<Statements> deferredStatements;
 
+    /**
+     * @return the statements, which are parsed first when they have been deferred
+     * @throws IllegalStateException when the deferred statements can't be parsed, which
+     *         {@link #resolve()} tells as a {@link JSQLParserException}
+     */
     public Statements getStatements() {
+        DeferredParse<Statements> deferred = deferredStatements;
+        if (deferred != null) {
+            try {
+                resolve();
+            } catch (JSQLParserException ex) {
+                throw new IllegalStateException(
+                        "The deferred statements can't be parsed: " + deferred.getText(), ex);
+            }
+        }
         return statements;
     }
 
+    /**
+     * Parses the statements, when they have been deferred. Threads reading the same block share
+     * the parsed statements.
+     *
+     * @return this
+     * @throws JSQLParserException when the deferred statements can't be parsed
+     */
+    public synchronized Block resolve() throws JSQLParserException {
+        if (deferredStatements != null) {
+            statements = deferredStatements.parse();
+            deferredStatements = null;
+        }
+        return this;
+    }
+
     public void setStatements(Statements statements) {
         this.statements = statements;
+        this.deferredStatements = null;
+    }
+
+    /**
+     * @return the statements skipped by a lazy parser, or <code>null</code> when they have been
+     *         parsed
+     */
+    public DeferredParse<Statements> getDeferredStatements() {
+        return deferredStatements;
+    }
+
+    public void setDeferredStatements(DeferredParse<Statements> deferredStatements) {
+        this.statements = null;
+        this.deferredStatements = deferredStatements;
     }
 
     public boolean hasSemicolonAfterEnd() {
@@ -37,7 +87,7 @@ public class Block implements Statement {
 
     public StringBuilder appendTo(StringBuilder builder) {
         builder.append("BEGIN\n");
-        if (statements != null) {
+        if (getStatements() != null) {
             builder.append(statements);
         }
         builder.append("END");
@@ -56,4 +106,9 @@ public class Block implements Statement {
         this.setStatements(statements);
         return this;
     }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getStatements();
+        out.defaultWriteObject();
+    }
 }
@@ -0,0 +1,62 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.statement;
+
+import net.sf.jsqlparser.util.ModelCopier;
+
+/**
+ * A read-only Statement, which many threads can share, e.g. when cached. It holds a private
+ * {@link ModelCopier deep copy} of the Statement it was made of, whose parts deferred by a lazy
+ * parser are parsed, and hands out neither the copy nor any part of it:
+ * <ul>
+ * <li>{@link #toString()} returns the text deparsed once, when freezing.</li>
+ * <li>The visitors are passed a {@link #copy()} of their own, which they may change.</li>
+ * </ul>
+ * So the Statement can't be changed through it, although the model classes have no read-only
+ * variants.
+ */
+public final class FrozenStatement implements Statement {
+    private final Statement statement;
+    private final String sql;
+
+    /**
+     * @throws IllegalStateException when a part deferred by a lazy parser can't be parsed
+     */
+    FrozenStatement(Statement statement) {
+        this.statement = ModelCopier.copy(statement);
+        // deparsing parses the deferred parts too, before the copy is shared
+        this.sql = this.statement.toString();
+    }
+
+    /**
+     * @return a modifiable deep copy of the frozen Statement
+     */
+    public Statement copy() {
+        return ModelCopier.copy(statement);
+    }
+
+    /**
+     * Passes the visitor a {@link #copy()} of the frozen Statement.
+     */
+    @Override
+    public <T, S> T accept(StatementVisitor<T> statementVisitor, S context) {
+        return copy().accept(statementVisitor, context);
+    }
+
+    @Override
+    public FrozenStatement freeze() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
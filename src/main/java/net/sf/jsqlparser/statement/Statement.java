@@ -17,4 +17,12 @@ public interface Statement extends Model {
     default void accept(StatementVisitor<?> statementVisitor) {
         accept(statementVisitor, null);
     }
+
+    /**
+     * @return a read-only copy of this Statement, which many threads can share
+     * @see FrozenStatement
+     */
+    default FrozenStatement freeze() {
+        return new FrozenStatement(this);
+    }
 }
@@ -9,12 +9,16 @@
  */
 package net.sf.jsqlparser.statement.select;
 
+import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Alias;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.DeferredParse;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.ParenthesedStatement;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Collection;
 import java.util.List;
 
@@ -24,6 +28,7 @@ public class ParenthesedSelect extends Select implements FromItem, ParenthesedSt
     UnPivot unPivot;
     Select select;
     SampleClause sampleClause = null;
+    private transient volatile DeferredParse<Select> deferredSelect;
 
     public ParenthesedSelect() {}
 
@@ -134,24 +139,66 @@ public class ParenthesedSelect extends Select implements FromItem, ParenthesedSt
         return this;
     }
 
+    /**
+     * @return the select, which is parsed first when it has been deferred
+     * @throws IllegalStateException when the deferred select can't be parsed, which
+     *         {@link #resolve()} tells as a {@link JSQLParserException}
+     */
     public Select getSelect() {
+        DeferredParse<Select> deferred = deferredSelect;
+        if (deferred != null) {
+            try {
+                resolve();
+            } catch (JSQLParserException ex) {
+                throw new IllegalStateException(
+                        "The deferred select can't be parsed: " + deferred.getText(), ex);
+            }
+        }
         return select;
     }
 
+    /**
+     * Parses the select, when it has been deferred. Threads reading the same statement share the
+     * parsed select.
+     *
+     * @return this
+     * @throws JSQLParserException when the deferred select can't be parsed
+     */
+    public synchronized ParenthesedSelect resolve() throws JSQLParserException {
+        if (deferredSelect != null) {
+            select = deferredSelect.parse();
+            deferredSelect = null;
+        }
+        return this;
+    }
+
     public void setSelect(Select select) {
         this.select = select;
+        this.deferredSelect = null;
+    }
+
+    /**
+     * @return the select skipped by a lazy parser, or <code>null</code> when it has been parsed
+     */
+    public DeferredParse<Select> getDeferredSelect() {
+        return deferredSelect;
+    }
+
+    public void setDeferredSelect(DeferredParse<Select> deferredSelect) {
+        this.select = null;
+        this.deferredSelect = deferredSelect;
     }
 
     public Values getValues() {
-        return (Values) select;
+        return (Values) getSelect();
     }
 
     public PlainSelect getPlainSelect() {
-        return (PlainSelect) select;
+        return (PlainSelect) getSelect();
     }
 
     public SetOperationList getSetOperationList() {
-        return (SetOperationList) select;
+        return (SetOperationList) getSelect();
     }
 
     public ParenthesedSelect withSelect(Select selectBody) {
@@ -160,7 +207,7 @@ public class ParenthesedSelect extends Select implements FromItem, ParenthesedSt
     }
 
     public ParenthesedSelect withOrderByElements(List<OrderByElement> orderByElements) {
-        this.select.setOrderByElements(orderByElements);
+        getSelect().setOrderByElements(orderByElements);
         return this;
     }
 
@@ -180,8 +227,13 @@ public class ParenthesedSelect extends Select implements FromItem, ParenthesedSt
     }
 
     public StringBuilder appendSelectBodyTo(StringBuilder builder) {
-        builder.append("(").append(select).append(")");
+        builder.append("(").append(getSelect()).append(")");
         appendTo(builder, alias, sampleClause, pivot, unPivot);
         return builder;
     }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getSelect();
+        out.defaultWriteObject();
+    }
 }
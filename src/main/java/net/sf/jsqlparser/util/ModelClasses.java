@@ -0,0 +1,113 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.HexValue;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.parser.DeferredParse;
+
+/**
+ * What the reflective walks over the model ({@link ModelCopier}, {@link ModelFingerprint}) know
+ * about its classes.
+ */
+final class ModelClasses {
+    private static final String MODEL_PACKAGE = "net.sf.jsqlparser.";
+    private static final String PARSER_PACKAGE = "net.sf.jsqlparser.parser.";
+
+    static final Set<Class<?>> LITERALS = Set.of(StringValue.class, LongValue.class,
+            DoubleValue.class, HexValue.class, DateValue.class, TimeValue.class,
+            TimestampValue.class, NullValue.class, BooleanValue.class);
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            // the fields of the model classes, but not of the collections they may extend
+            for (Class<?> c = type; c != null && c.getName().startsWith(MODEL_PACKAGE); c =
+                    c.getSuperclass()) {
+                Field[] declared = c.getDeclaredFields();
+                // the order of the declared fields is unspecified
+                Arrays.sort(declared, Comparator.comparing(Field::getName));
+                for (Field field : declared) {
+                    int modifiers = field.getModifiers();
+                    // the deferred parts of the lazy parsing are transient for serialization only
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+                            && field.getType() != DeferredParse.class) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private ModelClasses() {}
+
+    /**
+     * @return TRUE for the classes of the model, FALSE for those of the parser and all others
+     */
+    static boolean isModel(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith(MODEL_PACKAGE) && !name.startsWith(PARSER_PACKAGE)
+                && !type.isSynthetic();
+    }
+
+    /**
+     * @return TRUE for the Strings, boxed primitives, enums and other values which can't change
+     */
+    static boolean isImmutable(Class<?> type) {
+        if (type == String.class || type.isEnum() || Enum.class.isAssignableFrom(type)
+                || type == Class.class) {
+            return true;
+        }
+        String name = type.getName();
+        return (name.startsWith("java.lang.") && Number.class.isAssignableFrom(type))
+                || type == Boolean.class || type == Character.class
+                || name.startsWith("java.math.") || name.startsWith("java.time.");
+    }
+
+    /**
+     * @param type a model class
+     * @return its first superclass outside of the model: Object or the collection it extends
+     */
+    static Class<?> outsideSuperclass(Class<?> type) {
+        Class<?> superclass = type;
+        while (superclass.getName().startsWith(MODEL_PACKAGE)) {
+            superclass = superclass.getSuperclass();
+        }
+        return superclass;
+    }
+
+    /**
+     * @param type a model class
+     * @return its non-static, non-transient fields and its deferred parts, accessible, in a stable
+     *         order
+     */
+    static Field[] fields(Class<?> type) {
+        return FIELDS.get(type);
+    }
+}
@@ -0,0 +1,279 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.StringValue;
+import sun.reflect.ReflectionFactory;
+
+/**
+ * Deep copies of the model: {@link net.sf.jsqlparser.statement.Statement}s,
+ * {@link net.sf.jsqlparser.expression.Expression}s, FromItems, SelectItems and everything within
+ * them, e.g. for rewriting a copy of a cached Statement instead of parsing its text again.
+ * <p>
+ * The copy of a class is planned once from its fields and then replayed for all its instances: an
+ * instance is created like deserialization does, without running the constructors of the model
+ * classes, and its fields are copied one by one. So every model class is covered without code of
+ * its own, and nothing is serialized. A class which can't be created this way fails its copy with
+ * an {@link IllegalStateException}.
+ * <ul>
+ * <li>Strings (the identifiers included), boxed primitives, enums and other immutable values are
+ * shared.</li>
+ * <li>Lists, sets, maps and arrays are copied with their elements. Unmodifiable collections become
+ * modifiable ones.</li>
+ * <li>An object referenced more than once within the model is copied once.</li>
+ * <li>Transient fields, like the {@link net.sf.jsqlparser.parser.ASTNodeAccess#getASTNode() AST
+ * nodes}, are not copied.</li>
+ * <li>Objects outside of the model, like the parts deferred by lazy parsing, are shared.</li>
+ * </ul>
+ * With shared literals, the literal values ({@link StringValue}, {@link LongValue} and alike) are
+ * shared instead of copied, which saves their allocation when the copy will not change them.
+ * <p>
+ * Copying does not change the original, so many threads can copy the same Statement, provided no
+ * thread changes it.
+ */
+public final class ModelCopier {
+    private static final ClassValue<CopyPlan> PLANS = new ClassValue<CopyPlan>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+            return new CopyPlan(type);
+        }
+    };
+
+    private final boolean shareLiterals;
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private ModelCopier(boolean shareLiterals) {
+        this.shareLiterals = shareLiterals;
+    }
+
+    /**
+     * @param model the Statement, Expression or any other model object to copy
+     * @return the deep copy, <code>null</code> for <code>null</code>
+     */
+    public static <T> T copy(T model) {
+        return copy(model, false);
+    }
+
+    /**
+     * @param model the Statement, Expression or any other model object to copy
+     * @param shareLiterals TRUE for sharing the literal values with the original
+     * @return the deep copy, <code>null</code> for <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T model, boolean shareLiterals) {
+        return (T) new ModelCopier(shareLiterals).copyValue(model);
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> type = value.getClass();
+        if (ModelClasses.isImmutable(type)) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+
+        if (ModelClasses.isModel(type)) {
+            return shareLiterals && ModelClasses.LITERALS.contains(type) ? value
+                    : PLANS.get(type).copy(value, this);
+        } else if (type.isArray()) {
+            return copyArray(value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            copy = value instanceof LinkedList ? new LinkedList<>()
+                    : new ArrayList<>(list.size());
+            copies.put(value, copy);
+            copyElements(list, (Collection<?>) copy);
+        } else if (value instanceof Set) {
+            if (value instanceof EnumSet) {
+                copy = ((EnumSet<?>) value).clone();
+                copies.put(value, copy);
+            } else {
+                copy = value instanceof SortedSet
+                        ? new TreeSet<>(((SortedSet<?>) value).comparator())
+                        : new LinkedHashSet<>();
+                copies.put(value, copy);
+                copyElements((Set<?>) value, (Collection<?>) copy);
+            }
+        } else if (value instanceof Map) {
+            copy = copyMap((Map<?, ?>) value);
+        } else if (value instanceof Map.Entry) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+            copy = new AbstractMap.SimpleEntry<>(copyValue(entry.getKey()),
+                    copyValue(entry.getValue()));
+            copies.put(value, copy);
+        } else {
+            // outside of the model
+            return value;
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void copyElements(Collection<?> original, Collection<?> copy) {
+        Collection<Object> elements = (Collection<Object>) copy;
+        for (Object element : original) {
+            elements.add(copyValue(element));
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object copyMap(Map<?, ?> original) {
+        Map<Object, Object> copy;
+        if (original instanceof EnumMap) {
+            copy = new EnumMap((EnumMap) original);
+        } else if (original instanceof SortedMap) {
+            copy = new TreeMap<>((Comparator<Object>) ((SortedMap<?, ?>) original).comparator());
+        } else {
+            copy = new LinkedHashMap<>();
+        }
+        copies.put(original, copy);
+        copyEntries(original, copy);
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void copyEntries(Map<?, ?> original, Map<?, ?> copy) {
+        Map<Object, Object> entries = (Map<Object, Object>) copy;
+        for (Map.Entry<?, ?> entry : original.entrySet()) {
+            entries.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+        }
+    }
+
+    private Object copyArray(Object original) {
+        Class<?> componentType = original.getClass().getComponentType();
+        int length = Array.getLength(original);
+        if (componentType.isPrimitive()) {
+            Object copy = Array.newInstance(componentType, length);
+            System.arraycopy(original, 0, copy, 0, length);
+            copies.put(original, copy);
+            return copy;
+        }
+        Object[] elements = (Object[]) original;
+        Object[] copy = Arrays.copyOf(elements, length);
+        copies.put(original, copy);
+        for (int i = 0; i < length; i++) {
+            copy[i] = copyValue(elements[i]);
+        }
+        return copy;
+    }
+
+    /**
+     * How to copy the instances of one model class.
+     */
+    private static final class CopyPlan {
+        private final Class<?> type;
+        private final Constructor<?> constructor;
+        private final Field[] primitiveFields;
+        private final Field[] referenceFields;
+
+        CopyPlan(Class<?> type) {
+            this.type = type;
+
+            List<Field> primitives = new ArrayList<>();
+            List<Field> references = new ArrayList<>();
+            for (Field field : ModelClasses.fields(type)) {
+                (field.getType().isPrimitive() ? primitives : references).add(field);
+            }
+            primitiveFields = primitives.toArray(new Field[0]);
+            referenceFields = references.toArray(new Field[0]);
+
+            constructor = instanceConstructor(type);
+        }
+
+        /**
+         * The constructor creating the instances without running the constructors of the model
+         * classes, but the constructor without arguments of the first superclass outside of the
+         * model: Object or the collection the model class extends.
+         */
+        private static Constructor<?> instanceConstructor(Class<?> type) {
+            Class<?> outside = ModelClasses.outsideSuperclass(type);
+            try {
+                Constructor<?> constructor = ReflectionFactory.getReflectionFactory()
+                        .newConstructorForSerialization(type, outside.getDeclaredConstructor());
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (NoSuchMethodException | RuntimeException | LinkageError ex) {
+                throw new IllegalStateException("Can't create copies of " + type.getName(), ex);
+            }
+        }
+
+        Object copy(Object original, ModelCopier copier) {
+            try {
+                Object copy = constructor.newInstance();
+                copier.copies.put(original, copy);
+                for (Field field : primitiveFields) {
+                    copyPrimitive(field, original, copy);
+                }
+                for (Field field : referenceFields) {
+                    field.set(copy, copier.copyValue(field.get(original)));
+                }
+                if (original instanceof Collection) {
+                    // a model class extending a collection, like the ExpressionList
+                    copier.copyElements((Collection<?>) original, (Collection<?>) copy);
+                } else if (original instanceof Map) {
+                    copier.copyEntries((Map<?, ?>) original, (Map<?, ?>) copy);
+                }
+                return copy;
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException("Can't copy " + type.getName(), ex);
+            }
+        }
+
+        private static void copyPrimitive(Field field, Object original, Object copy)
+                throws IllegalAccessException {
+            Class<?> fieldType = field.getType();
+            if (fieldType == boolean.class) {
+                field.setBoolean(copy, field.getBoolean(original));
+            } else if (fieldType == int.class) {
+                field.setInt(copy, field.getInt(original));
+            } else if (fieldType == long.class) {
+                field.setLong(copy, field.getLong(original));
+            } else if (fieldType == double.class) {
+                field.setDouble(copy, field.getDouble(original));
+            } else if (fieldType == float.class) {
+                field.setFloat(copy, field.getFloat(original));
+            } else if (fieldType == char.class) {
+                field.setChar(copy, field.getChar(original));
+            } else if (fieldType == short.class) {
+                field.setShort(copy, field.getShort(original));
+            } else {
+                field.setByte(copy, field.getByte(original));
+            }
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.parser.DeferredParse;
+
+/**
+ * Structural equality and 64-bit fingerprints of the model: two
+ * {@link net.sf.jsqlparser.statement.Statement}s, {@link net.sf.jsqlparser.expression.Expression}s
+ * or any other model objects are equal, when they are of the same classes and all their fields are
+ * equal, all the way down. The fingerprint of a model is computed in one walk over it, like its
+ * {@link ModelCopier copy}, so deduplicating or keying a cache by statements does not need their
+ * text.
+ * <ul>
+ * <li>Equal models have equal fingerprints. The fingerprints are stable across JVMs and runs, since
+ * they hash the names of the classes and the values of the fields only, FNV-1a like the
+ * {@link net.sf.jsqlparser.parser.ParsingStatistics}.</li>
+ * <li>Identifiers are compared as they are, i.e. case-sensitive and with their quotes.</li>
+ * <li>Lists and arrays are compared in their order, sets and maps regardless of their order.</li>
+ * <li>Transient fields, like the {@link net.sf.jsqlparser.parser.ASTNodeAccess#getASTNode() AST
+ * nodes}, are ignored. A part deferred by lazy parsing is compared by its text, so it differs from
+ * the parsed part.</li>
+ * </ul>
+ * Ignoring the literals, the literal values ({@link StringValue}, {@link LongValue} and alike) are
+ * compared by their classes only, so <code>a = 1</code> equals <code>a = 2</code>, but not
+ * <code>a = '1'</code>. Ignoring the aliases, the {@link Alias}es are ignored altogether, so
+ * <code>SELECT a AS b FROM t c</code> equals <code>SELECT a FROM t</code>.
+ * <p>
+ * Neither operation changes the model, so many threads can compare the same Statement, provided no
+ * thread changes it.
+ */
+public final class ModelFingerprint {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // the markers of the kinds of values, so a null does not hash like an empty list
+    private static final long NULL = 1;
+    private static final long MODEL = 2;
+    private static final long SEQUENCE = 3;
+    private static final long UNORDERED = 4;
+    private static final long ENTRY = 5;
+    private static final long VALUE = 6;
+    private static final long BACK_REFERENCE = 7;
+
+    private static final ClassValue<Long> CLASS_HASHES = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return hashString(FNV_OFFSET_BASIS, type.getName());
+        }
+    };
+
+    private final boolean ignoreLiterals;
+    private final boolean ignoreAliases;
+    // the objects being walked, for models referencing themselves
+    private final Map<Object, Object> path = new IdentityHashMap<>();
+
+    private ModelFingerprint(boolean ignoreLiterals, boolean ignoreAliases) {
+        this.ignoreLiterals = ignoreLiterals;
+        this.ignoreAliases = ignoreAliases;
+    }
+
+    /**
+     * @param model the Statement, Expression or any other model object
+     * @return its fingerprint
+     */
+    public static long of(Object model) {
+        return of(model, false, false);
+    }
+
+    /**
+     * @param model the Statement, Expression or any other model object
+     * @param ignoreLiterals TRUE for ignoring the values of the literals
+     * @param ignoreAliases TRUE for ignoring the aliases
+     * @return its fingerprint
+     */
+    public static long of(Object model, boolean ignoreLiterals, boolean ignoreAliases) {
+        return new ModelFingerprint(ignoreLiterals, ignoreAliases).hash(FNV_OFFSET_BASIS, model);
+    }
+
+    /**
+     * @param a a Statement, Expression or any other model object
+     * @param b another one
+     * @return TRUE when both are structurally equal
+     */
+    public static boolean equal(Object a, Object b) {
+        return equal(a, b, false, false);
+    }
+
+    /**
+     * @param a a Statement, Expression or any other model object
+     * @param b another one
+     * @param ignoreLiterals TRUE for ignoring the values of the literals
+     * @param ignoreAliases TRUE for ignoring the aliases
+     * @return TRUE when both are structurally equal
+     */
+    public static boolean equal(Object a, Object b, boolean ignoreLiterals,
+            boolean ignoreAliases) {
+        return new ModelFingerprint(ignoreLiterals, ignoreAliases).isEqual(a, b);
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private static long hashString(long hash, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            hash = (hash ^ s.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash, s.length());
+    }
+
+    private long hash(long hash, Object value) {
+        if (value == null || ignoreAliases && value instanceof Alias) {
+            return mix(hash, NULL);
+        }
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            return hashString(mix(hash, VALUE), (String) value);
+        } else if (ModelClasses.isImmutable(type) || value instanceof DeferredParse) {
+            return hashValue(mix(hash, CLASS_HASHES.get(type)), value);
+        } else if (path.put(value, value) != null) {
+            return mix(hash, BACK_REFERENCE);
+        }
+        try {
+            if (ModelClasses.isModel(type)) {
+                hash = mix(mix(hash, MODEL), CLASS_HASHES.get(type));
+                if (ignoreLiterals && ModelClasses.LITERALS.contains(type)) {
+                    return hash;
+                }
+                for (Field field : ModelClasses.fields(type)) {
+                    hash = hashField(hash, field, value);
+                }
+                if (value instanceof Collection) {
+                    // a model class extending a collection, like the ExpressionList
+                    hash = hashElements(hash, (Collection<?>) value);
+                } else if (value instanceof Map) {
+                    hash = hashElements(hash, ((Map<?, ?>) value).entrySet());
+                }
+                return hash;
+            } else if (type.isArray()) {
+                int length = Array.getLength(value);
+                hash = mix(mix(hash, SEQUENCE), length);
+                for (int i = 0; i < length; i++) {
+                    hash = hash(hash, Array.get(value, i));
+                }
+                return hash;
+            } else if (value instanceof Collection) {
+                return hashElements(hash, (Collection<?>) value);
+            } else if (value instanceof Map) {
+                return hashElements(hash, ((Map<?, ?>) value).entrySet());
+            } else if (value instanceof Map.Entry) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+                return hash(hash(mix(hash, ENTRY), entry.getKey()), entry.getValue());
+            }
+            // outside of the model
+            return hashString(mix(hash, CLASS_HASHES.get(type)), String.valueOf(value));
+        } finally {
+            path.remove(value);
+        }
+    }
+
+    private long hashElements(long hash, Collection<?> elements) {
+        if (elements instanceof Set) {
+            // the sum of the hashes of the elements does not depend on their order
+            long sum = 0;
+            for (Object element : elements) {
+                sum += hash(FNV_OFFSET_BASIS, element);
+            }
+            return mix(mix(mix(hash, UNORDERED), elements.size()), sum);
+        }
+        hash = mix(mix(hash, SEQUENCE), elements.size());
+        for (Object element : elements) {
+            hash = hash(hash, element);
+        }
+        return hash;
+    }
+
+    private static long hashValue(long hash, Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            return mix(hash, Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            return mix(hash, ((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            return mix(hash, (Boolean) value ? 1 : 0);
+        } else if (value instanceof Character) {
+            return mix(hash, (Character) value);
+        } else if (value instanceof Enum) {
+            return hashString(hash, ((Enum<?>) value).name());
+        } else if (value instanceof Class) {
+            return hashString(hash, ((Class<?>) value).getName());
+        } else if (value instanceof DeferredParse) {
+            return hashString(hash, ((DeferredParse<?>) value).getText());
+        }
+        // BigDecimal, BigInteger and the java.time values
+        return hashString(hash, value.toString());
+    }
+
+    private long hashField(long hash, Field field, Object owner) {
+        try {
+            Class<?> fieldType = field.getType();
+            if (fieldType == boolean.class) {
+                return mix(hash, field.getBoolean(owner) ? 1 : 0);
+            } else if (fieldType == double.class || fieldType == float.class) {
+                return mix(hash, Double.doubleToLongBits(field.getDouble(owner)));
+            } else if (fieldType.isPrimitive()) {
+                return mix(hash, field.getLong(owner));
+            }
+            return hash(hash, field.get(owner));
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Can't read " + field, ex);
+        }
+    }
+
+    private boolean isEqual(Object a, Object b) {
+        if (ignoreAliases) {
+            a = a instanceof Alias ? null : a;
+            b = b instanceof Alias ? null : b;
+        }
+        if (a == b) {
+            return true;
+        } else if (a == null || b == null) {
+            return false;
+        }
+        Class<?> type = a.getClass();
+        if (ModelClasses.isImmutable(type)) {
+            return a.equals(b);
+        } else if (a instanceof DeferredParse) {
+            return b instanceof DeferredParse && ((DeferredParse<?>) a).getText()
+                    .equals(((DeferredParse<?>) b).getText());
+        }
+
+        Object walked = path.get(a);
+        if (walked != null) {
+            // a model referencing itself
+            return walked == b;
+        }
+        path.put(a, b);
+        try {
+            if (ModelClasses.isModel(type)) {
+                if (type != b.getClass()) {
+                    return false;
+                } else if (ignoreLiterals && ModelClasses.LITERALS.contains(type)) {
+                    return true;
+                }
+                for (Field field : ModelClasses.fields(type)) {
+                    if (!isFieldEqual(field, a, b)) {
+                        return false;
+                    }
+                }
+                if (a instanceof Collection) {
+                    return areElementsEqual((Collection<?>) a, (Collection<?>) b);
+                } else if (a instanceof Map) {
+                    return areElementsEqual(((Map<?, ?>) a).entrySet(),
+                            ((Map<?, ?>) b).entrySet());
+                }
+                return true;
+            } else if (type.isArray()) {
+                if (!b.getClass().isArray()) {
+                    return false;
+                }
+                int length = Array.getLength(a);
+                if (length != Array.getLength(b)) {
+                    return false;
+                }
+                for (int i = 0; i < length; i++) {
+                    if (!isEqual(Array.get(a, i), Array.get(b, i))) {
+                        return false;
+                    }
+                }
+                return true;
+            } else if (a instanceof Collection) {
+                return b instanceof Collection && (a instanceof Set) == (b instanceof Set)
+                        && areElementsEqual((Collection<?>) a, (Collection<?>) b);
+            } else if (a instanceof Map) {
+                return b instanceof Map && areElementsEqual(((Map<?, ?>) a).entrySet(),
+                        ((Map<?, ?>) b).entrySet());
+            } else if (a instanceof Map.Entry) {
+                return b instanceof Map.Entry
+                        && isEqual(((Map.Entry<?, ?>) a).getKey(), ((Map.Entry<?, ?>) b).getKey())
+                        && isEqual(((Map.Entry<?, ?>) a).getValue(),
+                                ((Map.Entry<?, ?>) b).getValue());
+            }
+            // outside of the model
+            return type == b.getClass() && Objects.equals(String.valueOf(a), String.valueOf(b));
+        } finally {
+            path.remove(a);
+        }
+    }
+
+    private boolean areElementsEqual(Collection<?> a, Collection<?> b) {
+        if (a.size() != b.size()) {
+            return false;
+        } else if (a instanceof Set) {
+            // every element matches another one, the sets are small
+            List<Object> unmatched = new ArrayList<>(b);
+            for (Object element : a) {
+                Iterator<Object> iterator = unmatched.iterator();
+                boolean matched = false;
+                while (!matched && iterator.hasNext()) {
+                    if (isEqual(element, iterator.next())) {
+                        iterator.remove();
+                        matched = true;
+                    }
+                }
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Iterator<?> iterator = b.iterator();
+        for (Object element : a) {
+            if (!isEqual(element, iterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isFieldEqual(Field field, Object a, Object b) {
+        try {
+            Class<?> fieldType = field.getType();
+            if (fieldType == boolean.class) {
+                return field.getBoolean(a) == field.getBoolean(b);
+            } else if (fieldType == double.class || fieldType == float.class) {
+                return Double.doubleToLongBits(field.getDouble(a)) == Double
+                        .doubleToLongBits(field.getDouble(b));
+            } else if (fieldType.isPrimitive()) {
+                return field.getLong(a) == field.getLong(b);
+            }
+            return isEqual(field.get(a), field.get(b));
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Can't read " + field, ex);
+        }
+    }
+}
@@ -78,6 +78,7 @@ import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Division;
 import net.sf.jsqlparser.expression.operators.arithmetic.IntegerDivision;
 import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.MultiConcat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
 import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
@@ -188,6 +189,8 @@ import net.sf.jsqlparser.statement.update.ParenthesedUpdate;
 import net.sf.jsqlparser.statement.update.Update;
 import net.sf.jsqlparser.statement.update.UpdateSet;
 import net.sf.jsqlparser.statement.upsert.Upsert;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -630,6 +633,22 @@ public class TablesNamesFinder<Void>
         return null;
     }
 
+    @Override
+    public <S> Void visit(MultiAndExpression multiAndExpression, S context) {
+        for (Expression expression : multiAndExpression.getList()) {
+            expression.accept(this, context);
+        }
+        return null;
+    }
+
+    @Override
+    public <S> Void visit(MultiOrExpression multiOrExpression, S context) {
+        for (Expression expression : multiOrExpression.getList()) {
+            expression.accept(this, context);
+        }
+        return null;
+    }
+
     @Override
     public <S> Void visit(StringValue stringValue, S context) {
 
@@ -748,6 +767,14 @@ public class TablesNamesFinder<Void>
         return null;
     }
 
+    @Override
+    public <S> Void visit(MultiConcat multiConcat, S context) {
+        for (Expression expression : multiConcat.getExpressions()) {
+            expression.accept(this, context);
+        }
+        return null;
+    }
+
     @Override
     public <S> Void visit(Matches matches, S context) {
         visitBinaryExpression(matches);
@@ -38,6 +38,18 @@ class CloneHelper {
                 return modify(parenthesis.get(0));
             }
         }
+        if (express instanceof MultipleExpression) {
+            // as parsed with Feature.flatOperators
+            MultipleExpression multi = (MultipleExpression) express;
+            List<Expression> list = new ArrayList<>();
+            for (int i = 0; i < multi.size(); i++) {
+                list.add(modify(multi.getChild(i)));
+            }
+            if (express instanceof MultiAndExpression) {
+                return new MultiAndExpression(list);
+            }
+            return new MultiOrExpression(list);
+        }
         if (express instanceof AndExpression) {
             AndExpression and = (AndExpression) express;
             List<Expression> list = new ArrayList<>();
@@ -12,6 +12,8 @@ package net.sf.jsqlparser.util.cnfexpression;
 import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 
 /**
  * This helper class is mainly used for handling the CNF conversion.
@@ -24,9 +26,19 @@ public final class MultiAndExpression extends MultipleExpression {
         super(childlist);
     }
 
+    @Override
+    public <T, S> T accept(ExpressionVisitor<T> expressionVisitor, S context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String getStringExpression() {
         return "AND";
     }
 
+    @Override
+    public boolean isWeaker(Expression child) {
+        return child instanceof MultiOrExpression || child instanceof OrExpression;
+    }
+
 }
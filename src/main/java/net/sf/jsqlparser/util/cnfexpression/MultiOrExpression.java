@@ -12,6 +12,7 @@ package net.sf.jsqlparser.util.cnfexpression;
 import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public final class MultiOrExpression extends MultipleExpression {
 
@@ -19,6 +20,11 @@ public final class MultiOrExpression extends MultipleExpression {
         super(childlist);
     }
 
+    @Override
+    public <T, S> T accept(ExpressionVisitor<T> expressionVisitor, S context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String getStringExpression() {
         return "OR";
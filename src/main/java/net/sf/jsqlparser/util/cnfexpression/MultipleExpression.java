@@ -12,12 +12,12 @@ package net.sf.jsqlparser.util.cnfexpression;
 import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
-import net.sf.jsqlparser.expression.ExpressionVisitor;
-import net.sf.jsqlparser.expression.NullValue;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 
 /**
- * This is a helper class that mainly used for handling the CNF conversion.
+ * This is a helper class that mainly used for handling the CNF conversion. The parser also
+ * builds its subclasses for chains of AND and OR, when
+ * {@link net.sf.jsqlparser.parser.feature.Feature#flatOperators} is set.
  *
  * @author messfish
  */
@@ -33,11 +33,6 @@ public abstract class MultipleExpression extends ASTNodeAccessImpl implements Ex
         return childlist.size();
     }
 
-    @Override
-    public <T, S> T accept(ExpressionVisitor<T> expressionVisitor, S context) {
-        return expressionVisitor.visit(new NullValue(), context);
-    }
-
     public List<Expression> getList() {
         return childlist;
     }
@@ -64,17 +59,29 @@ public abstract class MultipleExpression extends ASTNodeAccessImpl implements Ex
 
     public abstract String getStringExpression();
 
+    /**
+     * @param child one of the children
+     * @return TRUE when the child binds weaker than this operator, so it needs brackets (like an
+     *         OR within an AND)
+     */
+    public boolean isWeaker(Expression child) {
+        return false;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append("(");
         for (int i = 0; i < size(); i++) {
-            sb.append(getChild(i));
+            Expression child = getChild(i);
+            if (isWeaker(child)) {
+                sb.append("(").append(child).append(")");
+            } else {
+                sb.append(child);
+            }
             if (i != size() - 1) {
                 sb.append(" ").append(getStringExpression()).append(" ");
             }
         }
-        sb.append(")");
         return sb.toString();
     }
 
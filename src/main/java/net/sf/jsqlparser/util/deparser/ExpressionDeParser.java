@@ -78,6 +78,7 @@ import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Division;
 import net.sf.jsqlparser.expression.operators.arithmetic.IntegerDivision;
 import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.MultiConcat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
 import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
@@ -130,6 +131,9 @@ import net.sf.jsqlparser.statement.select.Select;
 import net.sf.jsqlparser.statement.select.SelectItem;
 import net.sf.jsqlparser.statement.select.SelectVisitor;
 import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultipleExpression;
 
 import java.util.Iterator;
 import java.util.List;
@@ -630,6 +634,20 @@ public class ExpressionDeParser extends AbstractDeParser<Expression>
         return builder;
     }
 
+    @Override
+    public <S> StringBuilder visit(MultiAndExpression multiAndExpression, S context) {
+        deparse(multiAndExpression, " AND ", context);
+
+        return builder;
+    }
+
+    @Override
+    public <S> StringBuilder visit(MultiOrExpression multiOrExpression, S context) {
+        deparse(multiOrExpression, " OR ", context);
+
+        return builder;
+    }
+
     @Override
     public <S> StringBuilder visit(StringValue stringValue, S context) {
         if (stringValue.getPrefix() != null) {
@@ -661,6 +679,31 @@ public class ExpressionDeParser extends AbstractDeParser<Expression>
 
     }
 
+    protected <S> void deparse(List<Expression> expressions, String operator, S context) {
+        for (int i = 0; i < expressions.size(); i++) {
+            if (i > 0) {
+                builder.append(operator);
+            }
+            expressions.get(i).accept(this, context);
+        }
+    }
+
+    protected <S> void deparse(MultipleExpression expression, String operator, S context) {
+        for (int i = 0; i < expression.size(); i++) {
+            if (i > 0) {
+                builder.append(operator);
+            }
+            Expression child = expression.getChild(i);
+            if (expression.isWeaker(child)) {
+                builder.append("(");
+                child.accept(this, context);
+                builder.append(")");
+            } else {
+                child.accept(this, context);
+            }
+        }
+    }
+
     @Override
     public <S> StringBuilder visit(Select select, S context) {
         if (selectVisitor != null) {
@@ -771,6 +814,14 @@ public class ExpressionDeParser extends AbstractDeParser<Expression>
         visit(xorExpression, null);
     }
 
+    public void visit(MultiAndExpression multiAndExpression) {
+        visit(multiAndExpression, null);
+    }
+
+    public void visit(MultiOrExpression multiOrExpression) {
+        visit(multiOrExpression, null);
+    }
+
     public void visit(StringValue stringValue) {
         visit(stringValue, null);
     }
@@ -1009,6 +1060,12 @@ public class ExpressionDeParser extends AbstractDeParser<Expression>
         return builder;
     }
 
+    @Override
+    public <S> StringBuilder visit(MultiConcat multiConcat, S context) {
+        deparse(multiConcat.getExpressions(), " || ", context);
+        return builder;
+    }
+
     public void visit(RangeExpression rangeExpression) {
         visit(rangeExpression, null);
     }
@@ -1053,6 +1110,10 @@ public class ExpressionDeParser extends AbstractDeParser<Expression>
         visit(concat, null);
     }
 
+    public void visit(MultiConcat multiConcat) {
+        visit(multiConcat, null);
+    }
+
 
     @Override
     public <S> StringBuilder visit(Matches matches, S context) {
@@ -79,6 +79,7 @@ import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Division;
 import net.sf.jsqlparser.expression.operators.arithmetic.IntegerDivision;
 import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.MultiConcat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
 import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
@@ -128,6 +129,8 @@ import net.sf.jsqlparser.statement.select.ParenthesedSelect;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
 import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
 import net.sf.jsqlparser.util.validation.ValidationCapability;
 import net.sf.jsqlparser.util.validation.metadata.NamedObject;
 
@@ -494,6 +497,22 @@ public class ExpressionValidator extends AbstractValidator<Expression>
         return null;
     }
 
+    @Override
+    public <S> Void visit(MultiAndExpression multiAndExpression, S context) {
+        for (Expression expression : multiAndExpression.getList()) {
+            expression.accept(this, null);
+        }
+        return null;
+    }
+
+    @Override
+    public <S> Void visit(MultiOrExpression multiOrExpression, S context) {
+        for (Expression expression : multiOrExpression.getList()) {
+            expression.accept(this, null);
+        }
+        return null;
+    }
+
     @Override
     public <S> Void visit(StringValue stringValue, S context) {
         // nothing to validate
@@ -636,6 +655,14 @@ public class ExpressionValidator extends AbstractValidator<Expression>
         visit(xorExpression, null);
     }
 
+    public void visit(MultiAndExpression multiAndExpression) {
+        visit(multiAndExpression, null);
+    }
+
+    public void visit(MultiOrExpression multiOrExpression) {
+        visit(multiOrExpression, null);
+    }
+
     public void visit(StringValue stringValue) {
         visit(stringValue, null);
     }
@@ -696,6 +723,14 @@ public class ExpressionValidator extends AbstractValidator<Expression>
         return null;
     }
 
+    @Override
+    public <S> Void visit(MultiConcat multiConcat, S context) {
+        for (Expression expression : multiConcat.getExpressions()) {
+            expression.accept(this, null);
+        }
+        return null;
+    }
+
     @Override
     public <S> Void visit(Matches matches, S context) {
         validateOldOracleJoinBinaryExpression(matches, " @@ ", context);
@@ -846,6 +881,10 @@ public class ExpressionValidator extends AbstractValidator<Expression>
         visit(concat, null);
     }
 
+    public void visit(MultiConcat multiConcat) {
+        visit(multiConcat, null);
+    }
+
     public void visit(Matches matches) {
         visit(matches, null);
     }
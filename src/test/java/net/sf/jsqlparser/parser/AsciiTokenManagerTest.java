@@ -0,0 +1,125 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsciiTokenManagerTest {
+    private static final Path GRAMMAR =
+            Paths.get("src/main/jjtree/net/sf/jsqlparser/parser/JSqlParserCC.jjt");
+
+    private static List<String> lex(CCJSqlParserTokenManager tokenManager) {
+        List<String> tokens = new ArrayList<>();
+        try {
+            for (Token token = tokenManager.getNextToken();; token = tokenManager.getNextToken()) {
+                StringBuilder builder = new StringBuilder();
+                for (Token special = token.specialToken; special != null;
+                        special = special.specialToken) {
+                    builder.append(special.image).append(' ');
+                }
+                tokens.add(builder.append(token.kind).append(' ').append(token.image).append(' ')
+                        .append(token.beginLine).append(':').append(token.beginColumn)
+                        .append('-').append(token.endLine).append(':').append(token.endColumn)
+                        .append(' ').append(token.absoluteBegin).append('-')
+                        .append(token.absoluteEnd).toString());
+                if (token.kind == CCJSqlParserConstants.EOF) {
+                    break;
+                }
+            }
+        } catch (TokenMgrException ex) {
+            tokens.add(ex.getMessage());
+        }
+        return tokens;
+    }
+
+    private static void assertSameTokens(String sql) {
+        List<String> expected =
+                lex(new CCJSqlParserTokenManager(new SimpleCharStream(new StringProvider(sql))));
+        assertEquals(expected,
+                lex(new AsciiTokenManager(new SimpleCharStream(new StringProvider(sql)))), sql);
+    }
+
+    @Test
+    void testSameTokens() {
+        for (String sql : List.of("SELECT a, b.c, 1, 2.5, .5, 1e5, 0x1F, X'1F' FROM t WHERE a >= 1",
+                "select a<>b, a < > b, a|| b, a | | b, a->>'x', a::int, ? , $1, :x FROM \"t\"",
+                "SELECT NEXT VALUE FOR s, NEXTVAL FOR s, a SIMILAR TO b FROM t\n\n\nSELECT 2",
+                "SELECT CURRENT_TIMESTAMP(), CURRENT TIME, current_date FROM t\n/\nSELECT 1\ngo\n",
+                "CREATE TABLE t (a TIMESTAMP(3) WITH TIME ZONE, b timestamptz without time zone)",
+                "SELECT N'a', _utf8'b', q'{c}', E'd', 'e''f', `g`, [h], a--c\n, b/*d*/ FROM t",
+                "SELECT a FROM t ORDER BY b DESC FETCH FIRST 1 ROWS WITH TIES",
+                "SELECT 123abc, a$b, a#b, a@b, _a, 1.x, {d '2020-01-01'}, {ts 'x'}",
+                "SELECT äöü, 'ß', a ä FROM t WHERE x = 1\r\n\tAND y=2", "SELECT a\n", "\n",
+                "  ", "SELECT 'unterminated", "SELECT \\")) {
+            assertSameTokens(sql);
+        }
+    }
+
+    @Test
+    void testKeywords() throws IOException {
+        String grammar = new String(Files.readAllBytes(GRAMMAR), StandardCharsets.UTF_8);
+        Matcher matcher = Pattern.compile("\"([A-Za-z_][A-Za-z0-9_]*)\"").matcher(
+                grammar.substring(grammar.indexOf("SKIP:"), grammar.indexOf("< S_CHAR_LITERAL")));
+        TreeSet<String> words = new TreeSet<>();
+        while (matcher.find()) {
+            words.add(matcher.group(1));
+        }
+        assertTrue(words.size() > 400);
+
+        for (String word : words) {
+            for (String sql : List.of(word, word.toLowerCase(Locale.ROOT), word + " x",
+                    word + "(", word + "()", word + "_X,", word + "1 ", "x." + word, word + "'a'",
+                    "CURRENT_" + word, "CURRENT " + word + "()", word + " WITH TIME ZONE")) {
+                assertSameTokens(sql);
+            }
+        }
+    }
+
+    @Test
+    void testSameTokensForTheTestResources() throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(Paths.get("src/test/resources"))) {
+            files = paths.filter(path -> path.toString().endsWith(".sql"))
+                    .collect(Collectors.toList());
+        }
+        assertTrue(files.size() > 100);
+        for (Path file : files) {
+            assertSameTokens(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testParse() throws JSQLParserException, ParseException {
+        String sql = "SELECT a, b + 1 FROM tab WHERE c >= (SELECT max(d) FROM e) AND f IN (1, 2)";
+        CCJSqlParser parser = new CCJSqlParser(
+                new AsciiTokenManager(new SimpleCharStream(new StringProvider(sql))));
+        Statement statement = parser.Statement();
+        assertEquals(CCJSqlParserUtil.parse(sql).toString(), statement.toString());
+    }
+}
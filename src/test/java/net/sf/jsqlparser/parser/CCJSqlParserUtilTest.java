@@ -13,7 +13,14 @@ import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.LongValue;
 import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
 import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.Statement;
@@ -28,21 +35,33 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -85,6 +104,10 @@ public class CCJSqlParserUtilTest {
             + "ORDER BY\n"
             + "t1.id ASC";
 
+    // takes much longer than the time outs of the tests, even with the memoized lookaheads
+    private final static String SLOW_SQL = "SELECT * FROM t WHERE "
+            + "(((t.a IN (1, 2) OR t.b = 1))) AND ".repeat(20000) + "1 = 1";
+
     @Test
     public void testParseExpression() throws Exception {
         Expression result = CCJSqlParserUtil.parseExpression("a+b");
@@ -105,6 +128,39 @@ public class CCJSqlParserUtilTest {
         assertTrue(mult.getRightExpression() instanceof ParenthesedExpressionList);
     }
 
+    @Test
+    public void testParseExpressionPrecedence() throws Exception {
+        Expression result = CCJSqlParserUtil.parseExpression("a || b + c * d ^ e - f | g");
+        BitwiseOr or = assertInstanceOf(BitwiseOr.class,
+                assertInstanceOf(Concat.class, result).getRightExpression());
+        Subtraction subtraction = assertInstanceOf(Subtraction.class, or.getLeftExpression());
+        Addition addition = assertInstanceOf(Addition.class, subtraction.getLeftExpression());
+        Multiplication multiplication =
+                assertInstanceOf(Multiplication.class, addition.getRightExpression());
+        assertInstanceOf(BitwiseXor.class, multiplication.getRightExpression());
+
+        result = CCJSqlParserUtil.parseCondExpression("a = 1 XOR b = 1 OR c = 1 AND d = 1");
+        OrExpression orExpression = assertInstanceOf(OrExpression.class,
+                assertInstanceOf(XorExpression.class, result).getRightExpression());
+        assertInstanceOf(AndExpression.class, orExpression.getRightExpression());
+    }
+
+    @Test
+    public void testParseLongOrChain() throws Exception {
+        // the operators are parsed by a loop, so the chain does not grow the stack
+        StringBuilder builder = new StringBuilder("a = 0");
+        for (int i = 1; i < 10000; i++) {
+            builder.append(" OR a = ").append(i);
+        }
+        Expression result = CCJSqlParserUtil.parseCondExpression(builder.toString());
+        int operands = 1;
+        while (result instanceof OrExpression) {
+            result = ((OrExpression) result).getLeftExpression();
+            operands++;
+        }
+        assertEquals(10000, operands);
+    }
+
     @Test
     public void testParseExpressionNonPartial() throws Exception {
         assertThrows(JSQLParserException.class,
@@ -492,7 +548,7 @@ public class CCJSqlParserUtilTest {
             @Override
             public void execute() throws Throwable {
                 try {
-                    CCJSqlParserUtil.parse(INVALID_SQL, executorService, parser -> {
+                    CCJSqlParserUtil.parse(SLOW_SQL, executorService, parser -> {
                         parser.withTimeOut(1000);
                         parser.withAllowComplexParsing(true);
                     });
@@ -544,4 +600,179 @@ public class CCJSqlParserUtilTest {
                 + "def'\n"
                 + "where id=?", true);
     }
+
+    @Test
+    void testSharedExecutorService() throws JSQLParserException {
+        ExecutorService executorService = CCJSqlParserUtil.getExecutorService();
+        assertSame(executorService, CCJSqlParserUtil.getExecutorService());
+
+        CCJSqlParserUtil.parse("select 1 from dual");
+        CCJSqlParserUtil.parse(new StringReader("select 2 from dual"));
+        CCJSqlParserUtil.parseStatements("select 3 from dual; select 4 from dual;");
+        assertFalse(executorService.isShutdown());
+
+        // after shutdown, a new Executor Service will be created on demand
+        CCJSqlParserUtil.shutdownExecutorService();
+        assertTrue(executorService.isShutdown());
+        assertNotNull(CCJSqlParserUtil.parse("select 5 from dual"));
+        assertNotSame(executorService, CCJSqlParserUtil.getExecutorService());
+    }
+
+    @Test
+    void testCustomSharedExecutorService() throws JSQLParserException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            CCJSqlParserUtil.setExecutorService(executorService);
+            assertSame(executorService, CCJSqlParserUtil.getExecutorService());
+            assertNotNull(CCJSqlParserUtil.parse("select 1 from dual"));
+        } finally {
+            CCJSqlParserUtil.setExecutorService(null);
+        }
+        assertTrue(executorService.isShutdown());
+        assertNotSame(executorService, CCJSqlParserUtil.getExecutorService());
+    }
+
+    @Test
+    void testSharedExecutorServiceIsBounded() {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) CCJSqlParserUtil.getExecutorService();
+        assertEquals(Runtime.getRuntime().availableProcessors(), pool.getMaximumPoolSize());
+        assertInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class,
+                pool.getRejectedExecutionHandler());
+    }
+
+    @Test
+    void testParseRacingWithTheShutdown() throws JSQLParserException {
+        // the shared pool has been shut down, after the caller has got it
+        ExecutorService pool = CCJSqlParserUtil.getExecutorService();
+        CCJSqlParserUtil.shutdownExecutorService();
+        assertNotNull(CCJSqlParserUtil.parse("select 1 from dual", pool, null));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.shutdown();
+        assertNotNull(CCJSqlParserUtil.parse("select 2 from dual", executorService, null));
+    }
+
+    @Test
+    void testTimeOutWhenThePoolIsBusy() throws InterruptedException {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.CallerRunsPolicy());
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            pool.submit(() -> {
+                latch.await();
+                return null;
+            });
+
+            // parsed within the calling thread, where the deadline stops the parser
+            long startNanos = System.nanoTime();
+            JSQLParserException exception = assertThrows(JSQLParserException.class,
+                    () -> CCJSqlParserUtil.parse(SLOW_SQL, pool, parser -> {
+                        parser.withTimeOut(1000);
+                        parser.withAllowComplexParsing(false);
+                    }));
+            assertInstanceOf(TimeoutException.class, exception.getCause());
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 10000);
+        } finally {
+            latch.countDown();
+            pool.shutdown();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testParseInCallingThread() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse("select * from tab1", null, null);
+        assertInstanceOf(PlainSelect.class, statement);
+
+        Statements statements = CCJSqlParserUtil.parseStatements(
+                "select 1 from dual; select 2 from dual;", null, null);
+        assertEquals(2, statements.size());
+
+        // without a time out, the cooperative deadline must not interrupt the parser
+        CCJSqlParser parser = CCJSqlParserUtil.newParser("select 1 from dual");
+        assertNotNull(CCJSqlParserUtil.parseStatement(parser));
+        assertFalse(parser.isTimedOut());
+    }
+
+    @Test
+    void testCooperativeTimeOut() {
+        long startNanos = System.nanoTime();
+        JSQLParserException exception = assertThrows(JSQLParserException.class,
+                () -> CCJSqlParserUtil.parse(SLOW_SQL, null, parser -> {
+                    parser.withTimeOut(1000);
+                    parser.withAllowComplexParsing(true);
+                }));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+
+        // the parser must have stopped by itself shortly after the deadline
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 10000);
+    }
+
+    @Test
+    void testCheck() {
+        ParseResult result = CCJSqlParserUtil.check(
+                "SELECT a, max(b) FROM t WHERE c IN (SELECT d FROM e) GROUP BY a");
+        assertTrue(result.isSuccess());
+        // recognized without being parsed
+        assertNull(result.getStatement());
+
+        result = CCJSqlParserUtil.check("SELECT a FROM t WHERE");
+        assertFalse(result.isSuccess());
+        ParseException parseException =
+                assertInstanceOf(ParseException.class, result.getException().getCause());
+        assertEquals("WHERE", parseException.currentToken.next.image);
+
+        assertFalse(CCJSqlParserUtil.check("SELECT * FROM [t]").isSuccess());
+        assertTrue(CCJSqlParserUtil
+                .check("SELECT * FROM [t]", parser -> parser.withSquareBracketQuotation(true))
+                .isSuccess());
+    }
+
+    @Test
+    void testCheckParsesWhatTheLookaheadDoesNotScan() {
+        // the body of the function is captured by a JAVACODE production
+        ParseResult result = CCJSqlParserUtil.check("CREATE FUNCTION foo RETURN 5; END;");
+        assertTrue(result.isSuccess());
+        assertNotNull(result.getStatement());
+    }
+
+    @Test
+    void testCheckRejectsTruncateOnlyWithSeveralTables() {
+        // rejected by the syntax, so the lookahead rejects it as well
+        ParseResult result = CCJSqlParserUtil.check("TRUNCATE ONLY a, b");
+        assertFalse(result.isSuccess());
+        assertInstanceOf(ParseException.class, result.getException().getCause());
+    }
+
+    @Test
+    void testCheckAgreesWithParseForInvalidStatements() {
+        for (String sql : new String[] {"SELECT a FROM t WHERE", "SELECT FROM WHERE",
+                "SELECT (a FROM t", "SELECT a FROM t) x", "SELECT CASE WHEN a THEN b FROM t",
+                "SELECT a FROM t GROUP BY", "SELECT * FROM t1 JOIN t2 ON", "INSERT INTO t VALUES",
+                "INSERT INTO t (a, b VALUES (1, 2)", "UPDATE t SET", "DELETE FROM t WHERE a =",
+                "DROP", "TRUNCATE ONLY a, b", "BEGIN SELECT 1;"}) {
+            assertThrows(JSQLParserException.class, () -> CCJSqlParserUtil.parse(sql), sql);
+            assertFalse(CCJSqlParserUtil.check(sql).isSuccess(), sql);
+        }
+    }
+
+    @Test
+    void testCheckAgreesWithParseForTheTestResources() throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(Paths.get("src/test/resources"))) {
+            files = paths.filter(path -> path.toString().endsWith(".sql"))
+                    .collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            String sql = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            boolean parsed;
+            try {
+                CCJSqlParserUtil.parse(sql);
+                parsed = true;
+            } catch (JSQLParserException ex) {
+                parsed = false;
+            }
+            assertEquals(parsed, CCJSqlParserUtil.check(sql).isSuccess(), file.toString());
+        }
+    }
 }
@@ -0,0 +1,121 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.operators.arithmetic.MultiConcat;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import net.sf.jsqlparser.util.cnfexpression.CNFConverter;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+import net.sf.jsqlparser.util.deparser.ExpressionDeParser;
+import org.junit.jupiter.api.Test;
+
+import static net.sf.jsqlparser.test.TestUtils.assertSqlCanBeParsedAndDeparsed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class FlatOperatorsTest {
+
+    private static Expression parseFlat(String condition) throws JSQLParserException {
+        return CCJSqlParserUtil.parseCondExpression(condition, false,
+                parser -> parser.withFlatOperators(true));
+    }
+
+    @Test
+    void testFlatChains() throws JSQLParserException {
+        Expression expression =
+                parseFlat("a = 1 OR b = 2 AND c = 3 AND (d = 4 OR e = 5) OR f || g || h = i");
+        MultiOrExpression or = assertInstanceOf(MultiOrExpression.class, expression);
+        assertEquals(3, or.size());
+
+        MultiAndExpression and = assertInstanceOf(MultiAndExpression.class, or.getChild(1));
+        assertEquals(3, and.size());
+        ParenthesedExpressionList<?> parenthesis =
+                assertInstanceOf(ParenthesedExpressionList.class, and.getChild(2));
+        assertEquals(2, assertInstanceOf(MultiOrExpression.class, parenthesis.get(0)).size());
+
+        PlainSelect select = (PlainSelect) CCJSqlParserUtil.parse("SELECT a || b || c FROM t",
+                parser -> parser.withFlatOperators(true));
+        assertEquals(3, assertInstanceOf(MultiConcat.class,
+                select.getSelectItem(0).getExpression()).size());
+    }
+
+    @Test
+    void testDoubleAndStaysBinary() throws JSQLParserException {
+        AndExpression and =
+                assertInstanceOf(AndExpression.class, parseFlat("a = 1 AND b = 2 && c = 3"));
+        assertEquals(2, assertInstanceOf(MultiAndExpression.class, and.getLeftExpression()).size());
+    }
+
+    @Test
+    void testDeparseLongChain() throws JSQLParserException {
+        StringBuilder builder = new StringBuilder("SELECT * FROM t WHERE a = 0");
+        for (int i = 1; i < 10000; i++) {
+            builder.append(" OR a = ").append(i);
+        }
+        String sql = builder.toString();
+
+        // the visitors iterate over the operands, so the chain does not grow the stack
+        Statement statement =
+                assertSqlCanBeParsedAndDeparsed(sql, true, parser -> parser.withFlatOperators(true));
+        assertEquals(10000, assertInstanceOf(MultiOrExpression.class,
+                ((PlainSelect) statement).getWhere()).size());
+        assertEquals(Set.of("t"), new TablesNamesFinder<>().getTables(statement));
+    }
+
+    @Test
+    void testDeparser() throws JSQLParserException {
+        String condition = "a = 1 OR b = 2 AND c || d = e";
+        ExpressionDeParser deParser = new ExpressionDeParser();
+        parseFlat(condition).accept(deParser, null);
+        assertEquals(condition, deParser.getBuilder().toString());
+    }
+
+    @Test
+    void testBracketsForWeakerChildren() throws JSQLParserException {
+        MultiAndExpression and = new MultiAndExpression(new ArrayList<>(List.of(
+                CCJSqlParserUtil.parseCondExpression("a = 1"),
+                new MultiOrExpression(new ArrayList<>(List.of(
+                        CCJSqlParserUtil.parseCondExpression("b = 2"),
+                        CCJSqlParserUtil.parseCondExpression("c = 3")))),
+                CCJSqlParserUtil.parseCondExpression("d = 4 OR e = 5"))));
+        assertEquals("a = 1 AND (b = 2 OR c = 3) AND (d = 4 OR e = 5)", and.toString());
+
+        ExpressionDeParser deParser = new ExpressionDeParser();
+        and.accept(deParser, null);
+        assertEquals(and.toString(), deParser.getBuilder().toString());
+
+        // but an AND binds stronger than an OR
+        MultiOrExpression or = new MultiOrExpression(new ArrayList<>(List.of(
+                CCJSqlParserUtil.parseCondExpression("f = 6"), and)));
+        assertEquals("f = 6 OR a = 1 AND (b = 2 OR c = 3) AND (d = 4 OR e = 5)", or.toString());
+    }
+
+    @Test
+    void testConvertToCNF() throws JSQLParserException {
+        for (String condition : List.of("a = 1 OR b = 2 AND c = 3",
+                "NOT (a = 1 AND b = 2) OR (c = 3 AND (d = 4 OR e = 5))")) {
+            assertEquals(
+                    CNFConverter.convertToCNF(CCJSqlParserUtil.parseCondExpression(condition))
+                            .toString(),
+                    CNFConverter.convertToCNF(parseFlat(condition)).toString());
+        }
+    }
+}
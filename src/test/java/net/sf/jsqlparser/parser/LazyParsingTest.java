@@ -0,0 +1,155 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.statement.Block;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.select.ParenthesedSelect;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyParsingTest {
+
+    private static Statement parseLazily(String sql) throws JSQLParserException {
+        return CCJSqlParserUtil.parse(sql, parser -> parser.withLazyParsing(true));
+    }
+
+    @Test
+    void testDeferredSubSelect() throws JSQLParserException {
+        String sql =
+                "SELECT a FROM (SELECT b FROM (SELECT c FROM d) x) y WHERE z IN (SELECT w FROM v)";
+        PlainSelect select = (PlainSelect) parseLazily(sql);
+
+        ParenthesedSelect fromItem = (ParenthesedSelect) select.getFromItem();
+        assertNotNull(fromItem.getDeferredSelect());
+        assertEquals("SELECT b FROM (SELECT c FROM d) x", fromItem.getDeferredSelect().getText());
+
+        PlainSelect inner = fromItem.getPlainSelect();
+        assertNull(fromItem.getDeferredSelect());
+        assertNotNull(((ParenthesedSelect) inner.getFromItem()).getDeferredSelect());
+
+        assertEquals(sql, select.toString());
+        assertEquals(List.of("d", "v"), new TablesNamesFinder<>().getTables((Statement) select)
+                .stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testDeferredBlock() throws JSQLParserException {
+        String sql = "BEGIN\nSELECT 1;\nBEGIN\nSELECT CASE WHEN a THEN b END FROM t;\nEND;;\nEND";
+        Block block = (Block) parseLazily(sql);
+
+        assertNotNull(block.getDeferredStatements());
+        assertEquals(CCJSqlParserUtil.parse(sql).toString(), block.toString());
+        assertEquals(2, block.getStatements().size());
+        assertNull(block.getDeferredStatements());
+    }
+
+    @Test
+    void testLookaheadsDoNotScanTheDeferredSubSelect() throws JSQLParserException {
+        // the syntactic lookaheads of the from item skip the deferred tokens like parsing does
+        String sql = "SELECT a FROM (SELECT FROM WHERE) x WHERE b IN (SELECT FROM)";
+        ParenthesedSelect fromItem =
+                (ParenthesedSelect) ((PlainSelect) parseLazily(sql)).getFromItem();
+        assertEquals("SELECT FROM WHERE", fromItem.getDeferredSelect().getText());
+
+        assertThrows(JSQLParserException.class, fromItem::resolve);
+        assertThrows(IllegalStateException.class, fromItem::getSelect);
+        assertThrows(JSQLParserException.class, () -> CCJSqlParserUtil.parse(sql));
+    }
+
+    @Test
+    void testConcurrentReadersShareTheDeferredSelect() throws Exception {
+        ParenthesedSelect fromItem = (ParenthesedSelect) ((PlainSelect) parseLazily(
+                "SELECT a FROM (SELECT b FROM c) x")).getFromItem();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Select>> selects = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                selects.add(executor.submit(fromItem::getSelect));
+            }
+            for (Future<Select> select : selects) {
+                assertSame(fromItem.getSelect(), select.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertNull(fromItem.getDeferredSelect());
+    }
+
+    @Test
+    void testJdbcParametersAreParsedEagerly() throws JSQLParserException {
+        PlainSelect select = (PlainSelect) parseLazily(
+                "SELECT a FROM (SELECT b FROM c WHERE d = ?) e WHERE f = ?");
+        assertNull(((ParenthesedSelect) select.getFromItem()).getDeferredSelect());
+        assertEquals("SELECT a FROM (SELECT b FROM c WHERE d = ?) e WHERE f = ?",
+                select.toString());
+    }
+
+    @Test
+    void testInvalidDeferredText() {
+        DeferredParse<Select> deferredSelect =
+                DeferredParse.ofSelect("SELECT FROM WHERE", new FeatureConfiguration().freeze());
+        assertThrows(JSQLParserException.class, deferredSelect::parse);
+    }
+
+    @Test
+    void testSameStatementsForTheTestResources() throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(Paths.get("src/test/resources"))) {
+            files = paths.filter(path -> path.toString().endsWith(".sql"))
+                    .collect(Collectors.toList());
+        }
+        int lazy = 0;
+        for (Path file : files) {
+            String sql = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Statements expected;
+            try {
+                expected = CCJSqlParserUtil.parseStatements(sql);
+            } catch (JSQLParserException ex) {
+                continue;
+            }
+            try {
+                Statements statements = CCJSqlParserUtil.parseStatements(sql,
+                        parser -> parser.withLazyParsing(true));
+                assertEquals(String.valueOf(expected), String.valueOf(statements),
+                        file.toString());
+                lazy++;
+            } catch (JSQLParserException ex) {
+                throw new AssertionError(file.toString(), ex);
+            }
+        }
+        assertTrue(lazy > 50);
+    }
+}
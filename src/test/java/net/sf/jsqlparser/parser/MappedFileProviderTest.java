@@ -0,0 +1,88 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedFileProviderTest {
+    private static final String SQLS = "SELECT 'äöü€' FROM tab1;\nSELECT '日本語' FROM tab2;\n";
+
+    private static String readAll(Provider provider) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[5];
+        for (int count = provider.read(buffer, 1, 4); count >= 0;
+                count = provider.read(buffer, 1, 4)) {
+            builder.append(buffer, 1, count);
+        }
+        provider.close();
+        return builder.toString();
+    }
+
+    @Test
+    void testDecodeAcrossSegments(@TempDir Path directory) throws IOException {
+        Path path = Files.write(directory.resolve("script.sql"),
+                SQLS.getBytes(StandardCharsets.UTF_8));
+        // the multi byte characters get split by the tiny segments
+        for (int segmentSize = 1; segmentSize < 8; segmentSize++) {
+            assertEquals(SQLS, readAll(
+                    new MappedFileProvider(path, StandardCharsets.UTF_8, segmentSize)));
+        }
+        assertEquals("", readAll(new MappedFileProvider(
+                Files.write(directory.resolve("empty.sql"), new byte[0]),
+                StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testCharSequenceProvider() throws IOException {
+        CharBuffer charBuffer = CharBuffer.wrap("--" + SQLS);
+        charBuffer.position(2);
+        assertEquals(SQLS, readAll(new CharSequenceProvider(charBuffer)));
+        assertEquals(2, charBuffer.position());
+
+        assertEquals(SQLS, readAll(new CharSequenceProvider(new StringBuilder(SQLS))));
+        assertEquals(SQLS, readAll(new CharSequenceProvider(SQLS)));
+    }
+
+    @Test
+    void testParsePath(@TempDir Path directory) throws IOException, JSQLParserException {
+        Path path = Files.write(directory.resolve("script.sql"),
+                SQLS.getBytes(StandardCharsets.UTF_8));
+
+        List<ParseResult> results;
+        try (Stream<ParseResult> stream = CCJSqlParserUtil.streamStatements(path)) {
+            results = stream.collect(Collectors.toList());
+        }
+        assertEquals(2, results.size());
+        assertEquals("SELECT '日本語' FROM tab2", results.get(1).getStatement().toString());
+
+        Path single = Files.write(directory.resolve("single.sql"),
+                "SELECT 'äöü€' FROM tab1".getBytes(StandardCharsets.UTF_8));
+        assertEquals("SELECT 'äöü€' FROM tab1", CCJSqlParserUtil.parse(single).toString());
+
+        JSQLParserException exception = assertThrows(JSQLParserException.class,
+                () -> CCJSqlParserUtil.parse(directory.resolve("missing.sql")));
+        assertTrue(exception.getCause() instanceof IOException);
+    }
+}
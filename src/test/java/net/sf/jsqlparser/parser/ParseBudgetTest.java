@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.StringReader;
+import java.util.function.Consumer;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.statement.Statement;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ParseBudgetTest {
+    private static final String SQL = "SELECT a FROM t WHERE b = 1";
+    private static final String NESTED_SQL =
+            "SELECT " + "(".repeat(20) + "1" + ")".repeat(20) + " FROM t";
+
+    private static ParseBudgetExceededException assertBudgetExceeded(Feature budget, String sql,
+            Consumer<CCJSqlParser> consumer) {
+        JSQLParserException ex = assertThrows(JSQLParserException.class,
+                () -> CCJSqlParserUtil.parse(sql, consumer));
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ParseBudgetExceededException) {
+                assertEquals(budget, ((ParseBudgetExceededException) cause).getBudget());
+                return (ParseBudgetExceededException) cause;
+            }
+        }
+        return fail("No exceeded budget: " + ex);
+    }
+
+    @Test
+    void testMaxTokens() throws JSQLParserException {
+        assertEquals(SQL, CCJSqlParserUtil.parse(SQL, parser -> parser.withMaxTokens(9)).toString());
+        ParseBudgetExceededException ex =
+                assertBudgetExceeded(Feature.maxTokens, SQL, parser -> parser.withMaxTokens(5));
+        assertEquals(5, ex.getLimit());
+        assertTrue(ex.getMessage().contains("column 23"), ex.getMessage());
+    }
+
+    @Test
+    void testMaxDepth() throws JSQLParserException {
+        assertEquals(NESTED_SQL,
+                CCJSqlParserUtil.parse(NESTED_SQL, parser -> parser.withMaxDepth(20)).toString());
+        assertBudgetExceeded(Feature.maxDepth, NESTED_SQL, parser -> parser.withMaxDepth(19));
+    }
+
+    @Test
+    void testMaxLookaheadSteps() throws JSQLParserException {
+        assertEquals(NESTED_SQL, CCJSqlParserUtil
+                .parse(NESTED_SQL, parser -> parser.withMaxLookaheadSteps(100000)).toString());
+        assertBudgetExceeded(Feature.maxLookaheadSteps, NESTED_SQL,
+                parser -> parser.withMaxLookaheadSteps(100));
+    }
+
+    @Test
+    void testDeterministic() {
+        String message = assertBudgetExceeded(Feature.maxLookaheadSteps, NESTED_SQL,
+                parser -> parser.withMaxLookaheadSteps(100)).getMessage();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(message, assertBudgetExceeded(Feature.maxLookaheadSteps, NESTED_SQL,
+                    parser -> parser.withMaxLookaheadSteps(100)).getMessage());
+        }
+    }
+
+    @Test
+    void testBudgetsPerStatementOfAStream() {
+        Statement[] statements = CCJSqlParserUtil.streamStatements(
+                new StringReader(SQL + ";\n" + SQL + ";\n" + SQL + " AND c = 2;\n" + SQL),
+                parser -> parser.withMaxTokens(10))
+                .map(ParseResult::getStatement).toArray(Statement[]::new);
+        assertEquals(4, statements.length);
+        assertEquals(SQL, statements[1].toString());
+        assertNull(statements[2]);
+        assertEquals(SQL, statements[3].toString());
+    }
+
+    @Test
+    void testRecoverAndReset() throws ParseException {
+        CCJSqlParser parser = new CCJSqlParser(SQL).withMaxTokens(5);
+        assertThrows(ParseBudgetExceededException.class, parser::Statement);
+        parser.reset(SQL).withMaxTokens(0);
+        assertEquals(SQL, parser.Statement().toString());
+        assertFalse(parser.isTimedOut());
+    }
+}
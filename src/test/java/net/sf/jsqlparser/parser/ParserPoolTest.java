@@ -0,0 +1,82 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParserPoolTest {
+
+    @Test
+    void testResetParser() throws ParseException {
+        CCJSqlParser parser = CCJSqlParserUtil.newParser("SELECT a, ? FROM tab1");
+        parser.Statement();
+
+        assertThrows(ParseException.class, () -> parser.reset("SELECT FROM WHERE").Statement());
+
+        PlainSelect select = (PlainSelect) parser.reset("SELECT\n  b, ? FROM tab2").Statement();
+        assertEquals("SELECT b, ? FROM tab2", select.toString());
+        assertEquals(1, ((JdbcParameter) select.getSelectItems().get(1).getExpression())
+                .getIndex());
+
+        // the token positions refer to the new text
+        Token token = ((Column) select.getSelectItems().get(0).getExpression()).getASTNode()
+                .jjtGetFirstToken();
+        assertEquals(2, token.beginLine);
+        assertEquals(3, token.beginColumn);
+        assertEquals(10, token.absoluteBegin);
+    }
+
+    @Test
+    void testParse() throws JSQLParserException {
+        ParserPool pool = new ParserPool(parser -> parser.withSquareBracketQuotation(true));
+        for (int i = 0; i < 3; i++) {
+            assertEquals("SELECT * FROM [tab" + i + "]",
+                    pool.parse("SELECT * FROM [tab" + i + "]").toString());
+            assertThrows(JSQLParserException.class, () -> pool.parse("SELECT FROM WHERE"));
+        }
+
+        // COMPLEX parsing after SIMPLE parsing failed does not stick to the pooled parser
+        String sql = "SELECT CASE WHEN a = 1 THEN b > 2 ELSE c END FROM t";
+        assertEquals(sql, pool.parse(sql).toString());
+        CCJSqlParser parser = pool.getParser("SELECT 1");
+        assertTrue(parser.getAsBoolean(Feature.allowComplexParsing));
+        assertTrue(parser.getAsBoolean(Feature.allowSquareBracketQuotation));
+
+        assertEquals(2, pool.parseStatements("SELECT 1; SELECT 2;").size());
+    }
+
+    @Test
+    void testParsersAreThreadConfined() throws Exception {
+        ParserPool pool = new ParserPool();
+        assertSame(pool.getParser("SELECT 1"), pool.getParser("SELECT 2"));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<CCJSqlParser> parser = executorService.submit(() -> pool.getParser("SELECT 3"));
+            assertTrue(parser.get() != pool.getParser("SELECT 4"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
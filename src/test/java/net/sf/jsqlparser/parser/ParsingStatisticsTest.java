@@ -0,0 +1,94 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.parser.feature.ParsingStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParsingStatisticsTest {
+    // a CASE expression with a condition in its THEN branch needs COMPLEX parsing
+    private static final String COMPLEX_SQL = "SELECT CASE WHEN a = 1 THEN b > 2 ELSE c END FROM t";
+
+    @BeforeEach
+    void setUp() {
+        ParsingStatistics.clear();
+    }
+
+    @Test
+    void testStrategies() throws JSQLParserException {
+        assertThrows(JSQLParserException.class, () -> CCJSqlParserUtil.parse(COMPLEX_SQL,
+                parser -> parser.withParsingStrategy(ParsingStrategy.SIMPLE_ONLY)));
+        assertThrows(JSQLParserException.class, () -> CCJSqlParserUtil.parse(COMPLEX_SQL,
+                parser -> parser.withAllowComplexParsing(false)
+                        .withParsingStrategy(ParsingStrategy.COMPLEX_ONLY)));
+
+        assertEquals(COMPLEX_SQL, CCJSqlParserUtil.parse(COMPLEX_SQL,
+                parser -> parser.withParsingStrategy(ParsingStrategy.COMPLEX_ONLY)).toString());
+        assertEquals(COMPLEX_SQL, CCJSqlParserUtil.parse(COMPLEX_SQL).toString());
+    }
+
+    @Test
+    void testAdaptiveRemembersComplexShapes() throws JSQLParserException {
+        FeatureConfiguration configuration = new FeatureConfiguration();
+        String otherSql = "SELECT CASE WHEN a = 7 THEN b > 'x' ELSE c END FROM t";
+        assertEquals(ParsingStrategy.ADAPTIVE,
+                ParsingStatistics.resolve(ParsingStatistics.scan(otherSql, configuration)));
+
+        CCJSqlParserUtil.parse(COMPLEX_SQL);
+        assertEquals(ParsingStrategy.ADAPTIVE, ParsingStatistics
+                .resolve(ParsingStatistics.scan("SELECT a FROM t", configuration)));
+        // the shape differs in its literals only
+        assertEquals(ParsingStrategy.COMPLEX_ONLY,
+                ParsingStatistics.resolve(ParsingStatistics.scan(otherSql, configuration)));
+        assertEquals(otherSql, CCJSqlParserUtil.parse(otherSql).toString());
+
+        // but not under a different configuration
+        configuration.setValue(Feature.allowSquareBracketQuotation, true);
+        assertEquals(ParsingStrategy.ADAPTIVE,
+                ParsingStatistics.resolve(ParsingStatistics.scan(otherSql, configuration)));
+    }
+
+    @Test
+    void testScan() {
+        FeatureConfiguration configuration = new FeatureConfiguration();
+        ParsingStatistics.Shape shape =
+                ParsingStatistics.scan("SELECT ((a)) FROM t WHERE b = '(((' -- (((\n", configuration);
+        assertEquals(2, shape.getNestingDepth());
+        assertEquals(shape.getHash(),
+                ParsingStatistics.scan("SELECT ((a)) FROM t WHERE b = 'x' ", configuration)
+                        .getHash());
+        assertNotEquals(shape.getHash(),
+                ParsingStatistics.scan("SELECT ((a)) FROM t WHERE b = 1", configuration)
+                        .getHash());
+
+        StringBuilder builder = new StringBuilder("SELECT ");
+        for (int i = 0; i <= CCJSqlParserUtil.ALLOWED_NESTING_DEPTH; i++) {
+            builder.append('(');
+        }
+        assertEquals(ParsingStrategy.SIMPLE_ONLY,
+                ParsingStatistics.resolve(ParsingStatistics.scan(builder.toString(), configuration)));
+    }
+
+    @Test
+    void testStrategyByName() {
+        FeatureConfiguration configuration =
+                new FeatureConfiguration().setValue(Feature.parsingStrategy, "complex_only");
+        assertEquals(ParsingStrategy.COMPLEX_ONLY,
+                configuration.getAsEnum(Feature.parsingStrategy, ParsingStrategy.class));
+    }
+}
@@ -0,0 +1,44 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RetainAstNodesTest {
+    private static final String SQL = "SELECT a, b + 1 FROM tab WHERE c = (SELECT max(d) FROM e)";
+
+    @Test
+    void testRetainAstNodes() throws JSQLParserException {
+        PlainSelect select = (PlainSelect) CCJSqlParserUtil.parse(SQL);
+        Column column = (Column) select.getSelectItems().get(0).getExpression();
+        assertNotNull(column.getASTNode());
+        assertEquals("a", column.getASTNode().jjtGetFirstToken().image);
+    }
+
+    @Test
+    void testDetachedModel() throws JSQLParserException {
+        PlainSelect select = (PlainSelect) CCJSqlParserUtil.parse(SQL,
+                parser -> parser.withRetainAstNodes(false));
+        assertEquals(SQL, select.toString());
+
+        assertNull(((Column) select.getSelectItems().get(0).getExpression()).getASTNode());
+        Expression where = select.getWhere();
+        assertNull(((ASTNodeAccess) where).getASTNode());
+        assertNull(select.getFromItem().getASTNode());
+    }
+}
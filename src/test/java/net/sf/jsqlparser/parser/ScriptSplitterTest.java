@@ -0,0 +1,156 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScriptSplitterTest {
+
+    private static List<String> split(String sqls) {
+        return ScriptSplitter.split(sqls, null, 0).stream().map(ScriptSplitter.Chunk::getText)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testSplitAtTopLevelDelimiters() {
+        assertEquals(List.of("SELECT ';' FROM a;", " /* ; */ SELECT 2 -- ;\n;;",
+                "\nSELECT CASE WHEN a THEN 1 END FROM b"),
+                split("SELECT ';' FROM a; /* ; */ SELECT 2 -- ;\n;;\n"
+                        + "SELECT CASE WHEN a THEN 1 END FROM b"));
+
+        assertEquals(List.of("BEGIN SELECT 1; SELECT 2; END;", " SELECT 3;"),
+                split("BEGIN SELECT 1; SELECT 2; END; SELECT 3;"));
+
+        assertEquals(List.of("IF a = 1 SELECT 1; ELSE SELECT 2;", " SELECT 3"),
+                split("IF a = 1 SELECT 1; ELSE SELECT 2; SELECT 3"));
+
+        assertEquals(List.of("SELECT 1\ngo\n", "SELECT 2"), split("SELECT 1\ngo\nSELECT 2"));
+    }
+
+    @Test
+    void testSplitAfterEndOfCompoundStatements() {
+        assertEquals(List.of("BEGIN CASE a WHEN 1 THEN SELECT 1; END CASE; SELECT 2; END;",
+                " SELECT 3;"),
+                split("BEGIN CASE a WHEN 1 THEN SELECT 1; END CASE; SELECT 2; END; SELECT 3;"));
+
+        assertEquals(List.of("BEGIN IF a THEN SELECT 1; END IF; SELECT 2; END;", " SELECT 3;"),
+                split("BEGIN IF a THEN SELECT 1; END IF; SELECT 2; END; SELECT 3;"));
+
+        assertEquals(List.of("BEGIN LOOP SELECT 1; END LOOP; SELECT 2; END;", " SELECT 3;"),
+                split("BEGIN LOOP SELECT 1; END LOOP; SELECT 2; END; SELECT 3;"));
+    }
+
+    @Test
+    void testSplitAfterBeginOfTransaction() {
+        assertEquals(List.of("BEGIN TRANSACTION;", " SELECT 1;", " COMMIT;"),
+                split("BEGIN TRANSACTION; SELECT 1; COMMIT;"));
+        assertEquals(List.of("BEGIN TRAN;", " SELECT 1;", " COMMIT;"),
+                split("BEGIN TRAN; SELECT 1; COMMIT;"));
+        assertEquals(List.of("BEGIN WORK;", " SELECT 1;", " COMMIT;"),
+                split("BEGIN WORK; SELECT 1; COMMIT;"));
+        assertEquals(List.of("BEGIN;", " SELECT 1;", " COMMIT;"),
+                split("BEGIN; SELECT 1; COMMIT;"));
+
+        // but a block may start with a delimiter
+        assertEquals(List.of("BEGIN; SELECT 1; END;", " SELECT 2;"),
+                split("BEGIN; SELECT 1; END; SELECT 2;"));
+    }
+
+    @Test
+    void testKeepParametersTogether() {
+        assertEquals(List.of("SELECT ?; SELECT ?;"), split("SELECT ?; SELECT ?;"));
+        assertEquals(List.of("SELECT $1; SELECT $2;"), split("SELECT $1; SELECT $2;"));
+    }
+
+    @Test
+    void testMinimumLength() {
+        List<ScriptSplitter.Chunk> chunks =
+                ScriptSplitter.split("SELECT 1; SELECT 2; SELECT 3; SELECT 4;", null, 15);
+        assertEquals(List.of("SELECT 1; SELECT 2;", " SELECT 3; SELECT 4;"), chunks.stream()
+                .map(ScriptSplitter.Chunk::getText).collect(Collectors.toList()));
+        assertEquals(19, chunks.get(1).getOffset());
+    }
+
+    @Test
+    void testParseInParallel() throws JSQLParserException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            builder.append("SELECT col").append(i).append(" FROM tab WHERE a = '")
+                    .append(i).append(";'\n;\n");
+        }
+        builder.append("BEGIN\nSELECT 1;\nSELECT 2;\nEND;\n");
+        builder.append("SELECT CASE WHEN a = 1 THEN b > 2 ELSE c END FROM t;\n");
+        String sqls = builder.toString();
+        assertTrue(ScriptSplitter.split(sqls, null, ScriptSplitter.MINIMUM_CHUNK_LENGTH)
+                .size() > 1);
+
+        Statements statements =
+                CCJSqlParserUtil.parseStatementsInParallel(sqls, new ForkJoinPool(4), null);
+        assertEquals(CCJSqlParserUtil.parseStatements(sqls).toString(), statements.toString());
+        assertEquals(2002, statements.size());
+
+        // the token positions refer to the whole script
+        PlainSelect select = statements.get(PlainSelect.class, 1500);
+        Column column = (Column) select.getSelectItems().get(0).getExpression();
+        assertEquals(2 * 1500 + 1, column.getASTNode().jjtGetFirstToken().beginLine);
+        assertEquals(sqls.indexOf("col1500 ") + 1,
+                column.getASTNode().jjtGetFirstToken().absoluteBegin);
+    }
+
+    @Test
+    void testParseInParallelNumbersTheParameters() throws JSQLParserException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            builder.append("SELECT col").append(i).append(" FROM tab WHERE a = ?;\n");
+        }
+        String sqls = builder.toString();
+
+        Statements statements =
+                CCJSqlParserUtil.parseStatementsInParallel(sqls, new ForkJoinPool(4), null);
+        Statements expected = CCJSqlParserUtil.parseStatements(sqls);
+        assertEquals(expected.toString(), statements.toString());
+
+        JdbcParameter parameter = (JdbcParameter) ((EqualsTo) statements
+                .get(PlainSelect.class, statements.size() - 1).getWhere()).getRightExpression();
+        JdbcParameter expectedParameter = (JdbcParameter) ((EqualsTo) expected
+                .get(PlainSelect.class, expected.size() - 1).getWhere()).getRightExpression();
+        assertEquals(expectedParameter.getIndex(), parameter.getIndex());
+    }
+
+    @Test
+    void testParseInParallelFailure() throws JSQLParserException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            builder.append("SELECT col").append(i).append(" FROM tab;\n");
+        }
+        builder.append("SELECT FROM WHERE;\n");
+        String sqls = builder.toString();
+
+        assertThrows(JSQLParserException.class,
+                () -> CCJSqlParserUtil.parseStatementsInParallel(sqls));
+        assertNull(CCJSqlParserUtil.parseStatementsInParallel(sqls,
+                parser -> parser.withAllowComplexParsing(false)));
+    }
+}
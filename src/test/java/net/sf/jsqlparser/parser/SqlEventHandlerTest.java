@@ -0,0 +1,104 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlEventHandlerTest {
+
+    private static final class RecordingHandler implements SqlEventHandler {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void startClause(Clause clause) {
+            events.add("<" + clause);
+        }
+
+        @Override
+        public void endClause(Clause clause) {
+            events.add(clause + ">");
+        }
+
+        @Override
+        public void table(Table table) {
+            events.add("table " + table);
+        }
+
+        @Override
+        public void column(Column column) {
+            events.add("column " + column);
+        }
+
+        @Override
+        public void function(Function function) {
+            events.add("function " + function.getName());
+        }
+
+        @Override
+        public void jdbcParameter(JdbcParameter parameter) {
+            events.add("parameter " + parameter.getIndex());
+        }
+    }
+
+    private static List<String> parse(String sql) throws ParseException {
+        RecordingHandler handler = new RecordingHandler();
+        new CCJSqlParser(sql).withEventHandler(handler).Statements();
+        return handler.events;
+    }
+
+    @Test
+    void testSelect() throws ParseException {
+        assertEquals(List.of("<SELECT", "column a", "column t.b", "function max", "SELECT>",
+                "<FROM", "table s.t", "table u", "column t.id", "column u.id", "FROM>",
+                "<WHERE", "column c", "parameter 1", "column d",
+                "<SELECT", "column e", "SELECT>", "<FROM", "table f", "FROM>", "WHERE>",
+                "<GROUP_BY", "column a", "GROUP_BY>",
+                "<HAVING", "function count", "parameter 2", "HAVING>",
+                "<ORDER_BY", "column a", "ORDER_BY>"),
+                parse("SELECT a, max(t.b) FROM s.t JOIN u ON t.id = u.id"
+                        + " WHERE c = ? AND d IN (SELECT e FROM f)"
+                        + " GROUP BY a HAVING count(*) > ? ORDER BY a"));
+    }
+
+    @Test
+    void testModifyingStatements() throws ParseException {
+        assertEquals(List.of("table t", "column a", "parameter 1", "<WHERE", "column b", "WHERE>",
+                "table u", "column c", "column d", "parameter 2", "parameter 3", "function lower"),
+                parse("UPDATE t SET a = ? WHERE b = 1;\n"
+                        + "INSERT INTO u (c, d) VALUES (?, lower(?))"));
+    }
+
+    @Test
+    void testEventsOfTheSuccessfulAttemptOnly() throws ParseException, JSQLParserException {
+        // a CASE expression with a condition in its THEN branch needs COMPLEX parsing
+        String sql = "SELECT CASE WHEN k = 1 THEN l > 2 ELSE m END FROM events_t";
+        List<String> expected = parse(sql);
+
+        RecordingHandler handler = new RecordingHandler();
+        ParsingStatistics.clear();
+        CCJSqlParserUtil.parse(sql, parser -> parser.withEventHandler(handler));
+        assertEquals(expected, handler.events);
+
+        handler.events.clear();
+        ParsingStatistics.clear();
+        CCJSqlParserUtil.parseStatements(sql, parser -> parser.withEventHandler(handler));
+        assertEquals(expected, handler.events);
+    }
+}
@@ -0,0 +1,84 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlTokenizerTest {
+
+    private static List<String> getImages(SqlTokens tokens) {
+        List<String> images = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            images.add(tokens.getImage(i));
+        }
+        return images;
+    }
+
+    @Test
+    void testTokenize() {
+        String sql = "SELECT a, [b] FROM t -- c\n /* d */\n WHERE x = 'y' /* e */;";
+        SqlTokens tokens = new SqlTokenizer().tokenize(sql);
+
+        assertNull(tokens.getError());
+        assertEquals(List.of("SELECT", "a", ",", "[", "b", "]", "FROM", "t", "WHERE", "x", "=",
+                "'y'", ";"), getImages(tokens));
+        assertEquals(CCJSqlParserConstants.K_SELECT, tokens.getKind(0));
+        assertTrue(tokens.isKeyword(0));
+        assertFalse(tokens.isKeyword(1));
+        assertFalse(tokens.isKeyword(2));
+        assertEquals(sql.indexOf("'y'"), tokens.getBegin(11));
+        assertEquals(sql.indexOf("'y'") + 3, tokens.getEnd(11));
+
+        tokens = new SqlTokenizer(new FeatureConfiguration()
+                .setValue(Feature.allowSquareBracketQuotation, true))
+                .withComments(true)
+                .tokenize(CharBuffer.wrap(sql));
+        assertEquals(List.of("SELECT", "a", ",", "[b]", "FROM", "t", "-- c", "/* d */", "WHERE",
+                "x", "=", "'y'", "/* e */", ";"), getImages(tokens));
+        assertTrue(tokens.isComment(6));
+        assertEquals(sql.indexOf("/* d */"), tokens.getBegin(7));
+    }
+
+    @Test
+    void testSameTokensAsTheParser() {
+        for (String sql : List.of("SELECT 'a\\', 'b' FROM t", "SELECT q'{x}' || $1, `c` FROM d",
+                "SELECT 1 -- trailing comment")) {
+            SqlTokens tokens = new SqlTokenizer().tokenize(sql);
+            assertNull(tokens.getError());
+            CCJSqlParserTokenManager tokenManager =
+                    new CCJSqlParserTokenManager(new SimpleCharStream(new StringProvider(sql)));
+            for (int i = 0; i < tokens.size(); i++) {
+                Token token = tokenManager.getNextToken();
+                assertEquals(token.kind, tokens.getKind(i));
+                assertEquals(token.image, tokens.getImage(i));
+            }
+            assertEquals(CCJSqlParserConstants.EOF, tokenManager.getNextToken().kind);
+        }
+    }
+
+    @Test
+    void testLexicalError() {
+        SqlTokens tokens = new SqlTokenizer().tokenize("SELECT a FROM b WHERE c = \"d");
+        assertNotNull(tokens.getError());
+        assertEquals(List.of("SELECT", "a", "FROM", "b", "WHERE", "c", "="), getImages(tokens));
+    }
+}
@@ -0,0 +1,225 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StatementCacheTest {
+
+    @Test
+    void testHitReturnsIndependentCopy() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10);
+        String sqlStr = "SELECT a, b FROM tab1 WHERE a = 1";
+
+        PlainSelect first = (PlainSelect) cache.parse(sqlStr);
+        PlainSelect second = (PlainSelect) cache.parse(sqlStr);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0.5d, cache.getHitRate());
+
+        assertNotSame(first, second);
+        assertEquals(first.toString(), second.toString());
+
+        // modifying a returned Statement must not affect the cache
+        second.setFromItem(new Table("tab2"));
+        assertEquals(sqlStr, cache.parse(sqlStr).toString());
+        assertEquals(sqlStr, first.toString());
+    }
+
+    @Test
+    void testKeyIncludesConfiguration() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10);
+        String sqlStr = "SELECT * FROM [tab1]";
+
+        Statement statement = cache.parse(sqlStr, parser -> parser.withSquareBracketQuotation(true));
+        assertEquals("SELECT * FROM [tab1]", statement.toString());
+
+        // a different configuration must not hit the entry above
+        assertThrows(JSQLParserException.class, () -> cache.parse(sqlStr));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+
+        // the time out does not change the result and so does not change the key
+        cache.parse(sqlStr, parser -> parser.withSquareBracketQuotation(true).withTimeOut(1000));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testKeyIncludesLazyParsing() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10);
+        String sqlStr = "SELECT a FROM (SELECT FROM WHERE) x";
+
+        // the invalid sub select is deferred, but must not be served to an eager parse
+        assertNotNull(cache.parse(sqlStr, parser -> parser.withLazyParsing(true)));
+        assertThrows(JSQLParserException.class, () -> cache.parse(sqlStr));
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void testConsumersDoNotShareTheirConfigurations() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10);
+        String sqlStr = "SELECT * FROM [tab1]";
+
+        cache.parse(sqlStr, parser -> parser.withSquareBracketQuotation(true));
+        cache.parse(sqlStr, parser -> parser.withSquareBracketQuotation(true));
+        assertEquals(1, cache.getHitCount());
+
+        // the configuration read for the consumers before starts over for this one
+        assertThrows(JSQLParserException.class, () -> cache.parse(sqlStr, parser -> {
+        }));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testKeyIsTheFeatureConfiguration() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10);
+        String sqlStr = "SELECT * FROM [tab1]";
+        FeatureConfiguration configuration =
+                new FeatureConfiguration().setValue(Feature.allowSquareBracketQuotation, true);
+
+        cache.parse(sqlStr, configuration);
+        cache.parse(sqlStr, configuration.freeze());
+        cache.parse(sqlStr, parser -> parser.withSquareBracketQuotation(true));
+        assertEquals(2, cache.getHitCount());
+
+        // the parser has not changed the configuration of the caller
+        assertEquals(new FeatureConfiguration().getAsString(Feature.allowComplexParsing),
+                configuration.getAsString(Feature.allowComplexParsing));
+
+        configuration.setValue(Feature.allowSquareBracketQuotation, false);
+        assertThrows(JSQLParserException.class, () -> cache.parse(sqlStr, configuration));
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    void testEventHandlerAndErrorRecoveryBypassTheCache() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10);
+        String sqlStr = "SELECT a FROM tab1";
+        List<Table> tables = new ArrayList<>();
+        SqlEventHandler handler = new SqlEventHandler() {
+            @Override
+            public void table(Table table) {
+                tables.add(table);
+            }
+        };
+
+        cache.parse(sqlStr);
+        cache.parse(sqlStr, parser -> parser.withEventHandler(handler));
+        cache.parse(sqlStr, parser -> parser.withEventHandler(handler));
+        assertEquals(2, tables.size());
+
+        cache.parse(sqlStr, parser -> parser.withErrorRecovery(true));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() throws JSQLParserException {
+        StatementCache cache = new StatementCache(2);
+        cache.parse("SELECT 1");
+        cache.parse("SELECT 2");
+        cache.parse("SELECT 1");
+        cache.parse("SELECT 3");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        // "SELECT 2" was the least recently used one
+        cache.parse("SELECT 1");
+        cache.parse("SELECT 2");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testEmptyAndInvalid() throws JSQLParserException {
+        StatementCache cache = new StatementCache(2);
+        assertNull(cache.parse(""));
+        assertNull(cache.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> new StatementCache(0));
+    }
+
+    @Test
+    void testNormalizedLiteralsShareOneEntry() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10, true);
+
+        Statement first = cache.parse("SELECT * FROM tab1 WHERE id = 42 AND name = 'a' AND f > 1.5");
+        Statement second =
+                cache.parse("SELECT * FROM tab1 WHERE id = 43 AND name = N'b''c' AND f > 2.50");
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+
+        assertEquals("SELECT * FROM tab1 WHERE id = 42 AND name = 'a' AND f > 1.5",
+                first.toString());
+        assertEquals("SELECT * FROM tab1 WHERE id = 43 AND name = N'b''c' AND f > 2.50",
+                second.toString());
+
+        PlainSelect select = (PlainSelect) cache.parse("SELECT * FROM tab1 WHERE id = 7 "
+                + "AND name = 'x' AND f > 0.5");
+        assertEquals("SELECT * FROM tab1 WHERE id = 7 AND name = 'x' AND f > 0.5",
+                select.toString());
+        assertEquals(2, cache.getHitCount());
+
+        // a different literal type is a different shape
+        cache.parse("SELECT * FROM tab1 WHERE id = 'x' AND name = 'a' AND f > 1.5");
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testNormalizedLiteralsFallBackToExactText() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10, true);
+
+        // the length of the data type is a literal token, but no literal value
+        String sqlStr = "CREATE TABLE tab1 (a VARCHAR (10))";
+        assertEquals(sqlStr, cache.parse(sqlStr).toString());
+        assertEquals(sqlStr, cache.parse(sqlStr).toString());
+        assertEquals(1, cache.getHitCount());
+
+        String otherStr = "CREATE TABLE tab1 (a VARCHAR (20))";
+        assertEquals(otherStr, cache.parse(otherStr).toString());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testNormalizedLiteralsKeepTheirPositions() throws JSQLParserException {
+        StatementCache cache = new StatementCache(10, true);
+
+        // the deparser writes LIMIT before OFFSET, so equal images can't prove the order
+        String sqlStr = "SELECT a FROM t OFFSET 5 LIMIT 5";
+        assertEquals(CCJSqlParserUtil.parse(sqlStr).toString(), cache.parse(sqlStr).toString());
+
+        String otherStr = "SELECT a FROM t OFFSET 100 LIMIT 10";
+        assertEquals(CCJSqlParserUtil.parse(otherStr).toString(),
+                cache.parse(otherStr).toString());
+        assertEquals(CCJSqlParserUtil.parse(otherStr).toString(),
+                cache.parse(otherStr).toString());
+        assertEquals(1, cache.getHitCount());
+    }
+}
@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.parser.StatementClassifier.Classification;
+import net.sf.jsqlparser.statement.select.ForMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementClassifierTest {
+    private final StatementClassifier classifier = new StatementClassifier();
+
+    private void assertKind(StatementKind kind, boolean readOnly, String sql) {
+        Classification classification = classifier.classify(sql);
+        assertEquals(kind, classification.getKind(), sql);
+        assertEquals(readOnly, classification.isReadOnly(), sql);
+    }
+
+    @Test
+    void testKinds() {
+        assertKind(StatementKind.SELECT, true, "SELECT a FROM t WHERE b = (SELECT max(c) FROM d)");
+        assertKind(StatementKind.SELECT, true,
+                "/*+ INDEX(t) */ -- comment\n (SELECT 1) UNION (SELECT 2) ORDER BY 1");
+        assertKind(StatementKind.SELECT, true, "VALUES (1, 2)");
+        assertKind(StatementKind.SELECT, true, "WITH a AS (SELECT 1) SELECT * FROM a;");
+        assertKind(StatementKind.INSERT, false, "INSERT INTO t VALUES (1)");
+        assertKind(StatementKind.INSERT, false, "insert /*+ APPEND */ into t select * from s");
+        assertKind(StatementKind.INSERT, false, "REPLACE INTO t VALUES (1)");
+        assertKind(StatementKind.UPDATE, false, "UPDATE t SET a = 1");
+        assertKind(StatementKind.DELETE, false, "DELETE FROM t");
+        assertKind(StatementKind.MERGE, false, "MERGE INTO t USING s ON (t.a = s.a) "
+                + "WHEN MATCHED THEN UPDATE SET t.b = s.b");
+        assertKind(StatementKind.UPDATE, false,
+                "WITH a AS (SELECT 1 AS x) UPDATE t SET b = 1 WHERE c IN (SELECT x FROM a)");
+        assertKind(StatementKind.DDL, false, "CREATE TABLE t (a INT)");
+        assertKind(StatementKind.DDL, false, "ALTER TABLE t ADD b INT");
+        assertKind(StatementKind.DDL, false, "DROP TABLE t");
+        assertKind(StatementKind.DDL, false, "TRUNCATE TABLE t");
+        assertKind(StatementKind.TRANSACTION, false, "COMMIT");
+        assertKind(StatementKind.TRANSACTION, false, "ROLLBACK TO SAVEPOINT s");
+        assertKind(StatementKind.TRANSACTION, false, "BEGIN");
+        assertKind(StatementKind.TRANSACTION, false, "begin transaction");
+        assertKind(StatementKind.TRANSACTION, false, "START TRANSACTION");
+        assertKind(StatementKind.TRANSACTION, false, "SET TRANSACTION READ ONLY");
+        assertKind(StatementKind.OTHER, false, "SET a = 1");
+        assertKind(StatementKind.OTHER, true, "SHOW TABLES");
+        assertKind(StatementKind.OTHER, false, "SHOW TABLES; DROP TABLE t");
+    }
+
+    @Test
+    void testLockingReads() {
+        Classification classification = classifier.classify("SELECT a FROM t FOR UPDATE");
+        assertEquals(StatementKind.SELECT, classification.getKind());
+        assertEquals(ForMode.UPDATE, classification.getForMode());
+        assertFalse(classification.isReadOnly());
+
+        assertEquals(ForMode.NO_KEY_UPDATE,
+                classifier.classify("SELECT a FROM t FOR NO KEY UPDATE").getForMode());
+        assertEquals(ForMode.KEY_SHARE,
+                classifier.classify("SELECT a FROM t FOR KEY SHARE").getForMode());
+        assertEquals(ForMode.SHARE,
+                classifier.classify("SELECT a FROM t LOCK IN SHARE MODE").getForMode());
+        assertNull(classifier.classify("SELECT NEXT VALUE FOR s").getForMode());
+    }
+
+    @Test
+    void testWritingQueries() {
+        Classification classification = classifier.classify(
+                "WITH d AS (DELETE FROM t WHERE a = 1 RETURNING *) SELECT * FROM d");
+        assertEquals(StatementKind.SELECT, classification.getKind());
+        assertTrue(classification.hasDataModifyingCte());
+        assertFalse(classification.isReadOnly());
+
+        classification = classifier.classify("SELECT * INTO t2 FROM t");
+        assertTrue(classification.isSelectInto());
+        assertFalse(classification.isReadOnly());
+
+        classification = classifier.classify("SELECT 1; DELETE FROM t");
+        assertTrue(classification.hasMoreStatements());
+        assertFalse(classification.isReadOnly());
+        assertTrue(classifier.classify("SELECT 1;;").isReadOnly());
+    }
+
+    @Test
+    void testParsedWhenTheTokensDoNotTell() {
+        Classification classification = classifier.classify("BEGIN\nSELECT 1;\nEND");
+        assertEquals(StatementKind.OTHER, classification.getKind());
+        assertTrue(classification.isParsed());
+        assertFalse(classification.isReadOnly());
+
+        assertFalse(classifier.classify("SELECT 1").isParsed());
+        assertEquals(StatementKind.UNKNOWN, classifier.classify("NOT SQL AT ALL").getKind());
+        assertEquals(StatementKind.UNKNOWN, classifier.classify("").getKind());
+    }
+}
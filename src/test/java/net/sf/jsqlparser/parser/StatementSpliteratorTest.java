@@ -0,0 +1,88 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.statement.UnsupportedStatement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementSpliteratorTest {
+
+    @Test
+    void testResumesAfterErrors() {
+        String sqls = "SELECT a FROM tab1;\n"
+                + "SELECT FROM WHERE x;;\n"
+                + "IF a = 1 SELECT 1; ELSE SELECT 2;\n"
+                + "SELECT b FROM tab2 WHERE\n";
+        List<ParseResult> results;
+        try (Stream<ParseResult> stream =
+                CCJSqlParserUtil.streamStatements(new StringReader(sqls), null)) {
+            results = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertInstanceOf(PlainSelect.class, results.get(0).getStatement());
+
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("SELECT FROM WHERE x", results.get(1).getSkippedText());
+
+        assertEquals("IF a = 1 SELECT 1; ELSE SELECT 2;",
+                results.get(2).getStatement().toString());
+
+        assertFalse(results.get(3).isSuccess());
+        assertEquals("SELECT b FROM tab2 WHERE", results.get(3).getSkippedText());
+    }
+
+    @Test
+    void testUnsupportedStatements() {
+        List<ParseResult> results = CCJSqlParserUtil
+                .streamStatements(new StringReader("SELECT 1; FOO BAR; SELECT 2"),
+                        parser -> parser.withUnsupportedStatements(true))
+                .collect(Collectors.toList());
+
+        assertEquals(3, results.size());
+        assertInstanceOf(UnsupportedStatement.class, results.get(1).getStatement());
+        assertEquals("SELECT 2", results.get(2).getStatement().toString());
+    }
+
+    @Test
+    void testTimeOutPerStatement() {
+        StringBuilder builder = new StringBuilder("SELECT 1;\nSELECT ");
+        for (int i = 0; i < 60; i++) {
+            builder.append("(");
+        }
+        builder.append("1");
+        for (int i = 0; i < 60; i++) {
+            builder.append(")");
+        }
+        builder.append(";\nSELECT 2;");
+
+        List<ParseResult> results = CCJSqlParserUtil
+                .streamStatements(new StringReader(builder.toString()),
+                        parser -> parser.withTimeOut(1))
+                .collect(Collectors.toList());
+
+        // the stream resumes after the timed out statement
+        assertEquals(3, results.size());
+        assertInstanceOf(TimeoutException.class, results.get(1).getException().getCause());
+    }
+}
@@ -0,0 +1,93 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser.feature;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrozenFeatureConfigurationTest {
+
+    @Test
+    void testFreeze() {
+        FeatureConfiguration configuration = new FeatureConfiguration()
+                .setValue(Feature.allowSquareBracketQuotation, "true")
+                .setValue(Feature.timeOut, "123")
+                .freeze();
+
+        assertTrue(configuration.isFrozen());
+        assertSame(configuration, configuration.freeze());
+        assertTrue(configuration.getAsBoolean(Feature.allowSquareBracketQuotation));
+        assertFalse(configuration.getAsBoolean(Feature.allowBackslashEscapeCharacter));
+        assertEquals(123L, configuration.getTimeOut());
+        assertEquals(123L, configuration.getAsLong(Feature.timeOut));
+        assertEquals(ParsingStrategy.ADAPTIVE,
+                configuration.getAsEnum(Feature.parsingStrategy, ParsingStrategy.class));
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> configuration.setValue(Feature.allowComplexParsing, false));
+        assertThrows(IllegalStateException.class,
+                () -> configuration.getAsBoolean(Feature.select));
+    }
+
+    @Test
+    void testVariants() {
+        FeatureConfiguration configuration = new FeatureConfiguration().freeze();
+        assertSame(configuration, configuration.with(Feature.allowComplexParsing, true));
+
+        FeatureConfiguration simple = configuration.with(Feature.allowComplexParsing, false);
+        assertNotSame(configuration, simple);
+        assertTrue(simple.isFrozen());
+        assertFalse(simple.getAsBoolean(Feature.allowComplexParsing));
+        assertTrue(configuration.getAsBoolean(Feature.allowComplexParsing));
+
+        // the variants are created once and switching back yields the origin
+        assertSame(simple, configuration.with(Feature.allowComplexParsing, false));
+        assertSame(configuration, simple.with(Feature.allowComplexParsing, true));
+    }
+
+    @Test
+    void testValuesAreNotCached() {
+        FeatureConfiguration configuration = new FeatureConfiguration().freeze();
+
+        FeatureConfiguration timed = configuration.with(Feature.timeOut, 1000L);
+        assertTrue(timed.isFrozen());
+        assertEquals(1000L, timed.getTimeOut());
+        assertNotSame(timed, configuration.with(Feature.timeOut, 1000L));
+
+        // but the switches of such a variant are
+        FeatureConfiguration simple = timed.with(Feature.allowComplexParsing, false);
+        assertEquals(1000L, simple.getTimeOut());
+        assertSame(simple, timed.with(Feature.allowComplexParsing, false));
+        assertSame(timed, simple.with(Feature.allowComplexParsing, true));
+    }
+
+    @Test
+    void testShareWithParsers() throws JSQLParserException {
+        FeatureConfiguration configuration = new FeatureConfiguration()
+                .setValue(Feature.allowSquareBracketQuotation, true).freeze();
+        for (int i = 0; i < 2; i++) {
+            assertEquals("SELECT * FROM [tab]", CCJSqlParserUtil
+                    .parse("SELECT * FROM [tab]",
+                            parser -> parser.withConfiguration(configuration).withTimeOut(1000))
+                    .toString());
+        }
+        assertTrue(configuration.getAsBoolean(Feature.allowComplexParsing));
+        assertEquals(Feature.timeOut.getDefaultValue(),
+                configuration.getValue(Feature.timeOut));
+    }
+}
@@ -0,0 +1,121 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.select.ParenthesedSelect;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.ModelFingerprint;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FrozenStatementTest {
+    private static final String SQL = "SELECT a, b FROM t JOIN u ON t.a = u.a "
+            + "WHERE t.c IN (1, 2, 3) AND EXISTS (SELECT 1 FROM v WHERE v.a = t.a)";
+
+    @Test
+    public void testVisitorsCanNotChangeTheFrozenStatement() throws JSQLParserException {
+        FrozenStatement frozen = CCJSqlParserUtil.parse(SQL).freeze();
+        assertSame(frozen, frozen.freeze());
+
+        List<Select> visited = new ArrayList<>();
+        StatementVisitorAdapter<Void> visitor = new StatementVisitorAdapter<Void>() {
+            @Override
+            public <S> Void visit(Select select, S context) {
+                visited.add(select);
+                ((PlainSelect) select).getJoins().clear();
+                ((PlainSelect) select).getSelectItems().remove(1);
+                return null;
+            }
+        };
+        frozen.accept(visitor);
+        frozen.accept(visitor);
+
+        // every visitor is passed a copy of its own
+        assertNotSame(visited.get(0), visited.get(1));
+        assertEquals(SQL, frozen.toString());
+        assertEquals(SQL, frozen.copy().toString());
+    }
+
+    @Test
+    public void testOriginalAndCopiesStayModifiable() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse(SQL);
+        FrozenStatement frozen = statement.freeze();
+
+        ((PlainSelect) statement).getJoins().clear();
+        PlainSelect copy = (PlainSelect) frozen.copy();
+        copy.getJoins().clear();
+        copy.getSelectItems().remove(1);
+        assertEquals("SELECT a FROM t WHERE t.c IN (1, 2, 3) "
+                + "AND EXISTS (SELECT 1 FROM v WHERE v.a = t.a)", copy.toString());
+        assertEquals(SQL, frozen.toString());
+    }
+
+    @Test
+    public void testCopyIsEqualToOriginal() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse(SQL);
+        FrozenStatement frozen = statement.freeze();
+
+        assertTrue(ModelFingerprint.equal(statement, frozen.copy()));
+        assertEquals(ModelFingerprint.of(statement), ModelFingerprint.of(frozen.copy()));
+    }
+
+    @Test
+    public void testDeferredPartsAreParsed() throws JSQLParserException {
+        FrozenStatement frozen = CCJSqlParserUtil
+                .parse("SELECT * FROM (SELECT a FROM t) x", parser -> parser.withLazyParsing(true))
+                .freeze();
+        ParenthesedSelect fromItem = (ParenthesedSelect) ((PlainSelect) frozen.copy()).getFromItem();
+        assertNull(fromItem.getDeferredSelect());
+
+        Statement invalid = CCJSqlParserUtil.parse("SELECT * FROM (SELECT FROM WHERE) x",
+                parser -> parser.withLazyParsing(true));
+        assertThrows(IllegalStateException.class, invalid::freeze);
+    }
+
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        FrozenStatement frozen = CCJSqlParserUtil.parse(SQL).freeze();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Set<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executorService.submit(() -> {
+                    assertEquals(SQL, frozen.toString());
+                    return new TablesNamesFinder<>().getTables(frozen);
+                }));
+            }
+            for (Future<Set<String>> future : futures) {
+                assertEquals(Set.of("t", "u", "v"), future.get());
+            }
+        } finally {
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
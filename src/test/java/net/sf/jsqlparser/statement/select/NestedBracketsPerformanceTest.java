@@ -11,6 +11,7 @@ package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.feature.ParsingStrategy;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -174,6 +175,19 @@ public class NestedBracketsPerformanceTest {
         assertSqlCanBeParsedAndDeparsed(sql, true, parser -> parser.withTimeOut(60000));
     }
 
+    @Test
+    @Timeout(2000)
+    public void testDeeplyNestedBracketsWithComplexParsing() throws JSQLParserException {
+        // the memoized lookaheads keep the scans from growing exponentially with the nesting
+        String[] sqls = {"SELECT * FROM t WHERE " + "(".repeat(30) + "a = 1" + ")".repeat(30),
+                "SELECT " + "(1 + ".repeat(30) + "1" + ")".repeat(30) + " FROM t",
+                "SELECT " + "f(".repeat(30) + "1" + ")".repeat(30) + " FROM t"};
+        for (String sql : sqls) {
+            assertSqlCanBeParsedAndDeparsed(sql, true, parser -> parser
+                    .withParsingStrategy(ParsingStrategy.COMPLEX_ONLY).withTimeOut(60000));
+        }
+    }
+
     /**
      * Try to avoid or border huge parsing time increments by adding more bracket constructs.
      *
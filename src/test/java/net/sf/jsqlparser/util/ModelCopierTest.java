@@ -0,0 +1,125 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.util.AbstractMap;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.test.TestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ModelCopierTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "WITH x AS (SELECT a FROM b) SELECT DISTINCT x.a, count(*) AS c FROM x "
+                    + "LEFT JOIN y ON x.a = y.a WHERE x.a IN (1, 2) AND y.b LIKE 'z%' "
+                    + "GROUP BY x.a HAVING count(*) > 1 ORDER BY c DESC LIMIT 10",
+            "SELECT CASE WHEN a > 1 THEN 'x' ELSE 'y' END, CAST(b AS VARCHAR (10)) FROM t "
+                    + "UNION ALL SELECT 1, 2 FROM dual",
+            "INSERT INTO t (a, b) VALUES (1, 'x') ON CONFLICT (a) DO UPDATE SET b = 'y'",
+            "UPDATE t SET a = a + 1 WHERE b = ? RETURNING a",
+            "DELETE FROM t WHERE EXISTS (SELECT 1 FROM u WHERE u.a = t.a)",
+            "CREATE TABLE t (a INT PRIMARY KEY, b VARCHAR (10) NOT NULL)",
+            "MERGE INTO t USING u ON (t.a = u.a) WHEN MATCHED THEN UPDATE SET t.b = u.b"})
+    public void testCopiedStatementDeparsesTheSame(String sql) throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse(sql);
+        Statement copy = ModelCopier.copy(statement);
+
+        assertNotSame(statement, copy);
+        assertEquals(statement.getClass(), copy.getClass());
+        TestUtils.assertStatementCanBeDeparsedAs(copy, statement.toString(), false);
+    }
+
+    @Test
+    public void testCopyIsIndependent() throws JSQLParserException {
+        Select select = (Select) CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = 1");
+        PlainSelect copy = ModelCopier.copy(select).getPlainSelect();
+
+        EqualsTo where = (EqualsTo) copy.getWhere();
+        ((LongValue) where.getRightExpression()).setValue(2);
+        ((Column) where.getLeftExpression()).setColumnName("c");
+        copy.getSelectItems().clear();
+        copy.addSelectItems(new Column("d"));
+
+        assertEquals("SELECT a FROM t WHERE b = 1", select.toString());
+        assertEquals("SELECT d FROM t WHERE c = 2", copy.toString());
+    }
+
+    @Test
+    public void testSharedLiterals() throws JSQLParserException {
+        EqualsTo expression = (EqualsTo) CCJSqlParserUtil.parseCondExpression("a = 'x'");
+
+        EqualsTo copy = ModelCopier.copy(expression, true);
+        assertNotSame(expression.getLeftExpression(), copy.getLeftExpression());
+        assertSame(expression.getRightExpression(), copy.getRightExpression());
+
+        copy = ModelCopier.copy(expression, false);
+        assertNotSame(expression.getRightExpression(), copy.getRightExpression());
+    }
+
+    @Test
+    public void testSharedReferencesStayShared() throws JSQLParserException {
+        Expression expression = CCJSqlParserUtil.parseExpression("a + 1");
+        EqualsTo equalsTo = new EqualsTo(expression, expression);
+
+        EqualsTo copy = ModelCopier.copy(equalsTo);
+        assertNotSame(expression, copy.getLeftExpression());
+        assertSame(copy.getLeftExpression(), copy.getRightExpression());
+    }
+
+    @Test
+    public void testClassesWithoutConstructorWithoutArguments() throws JSQLParserException {
+        Alias alias = new Alias("x", true);
+        Alias aliasCopy = ModelCopier.copy(alias);
+        assertNotSame(alias, aliasCopy);
+        assertEquals("AS x", aliasCopy.toString().trim());
+
+        ExpressionList<?> list = (ExpressionList<?>) CCJSqlParserUtil.parseExpression("(1, 2)");
+        ExpressionList<?> listCopy = ModelCopier.copy(list);
+        assertEquals(2, listCopy.size());
+        assertEquals(list.toString(), listCopy.toString());
+        assertNotSame(list.get(0), listCopy.get(0));
+    }
+
+    @Test
+    public void testUncreatableClassFailsTheCopy() {
+        assertThrows(IllegalStateException.class,
+                () -> ModelCopier.copy(new Uncreatable("a", "b")));
+    }
+
+    /**
+     * A model class whose superclass outside of the model has no constructor without arguments.
+     */
+    private static final class Uncreatable extends AbstractMap.SimpleEntry<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        Uncreatable(String key, String value) {
+            super(key, value);
+        }
+    }
+}
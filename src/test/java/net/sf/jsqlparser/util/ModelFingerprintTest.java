@@ -0,0 +1,96 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModelFingerprintTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "WITH x AS (SELECT a FROM b) SELECT DISTINCT x.a, count(*) AS c FROM x "
+                    + "LEFT JOIN y ON x.a = y.a WHERE x.a IN (1, 2) AND y.b LIKE 'z%' "
+                    + "GROUP BY x.a HAVING count(*) > 1 ORDER BY c DESC LIMIT 10",
+            "INSERT INTO t (a, b) VALUES (1, 'x') ON CONFLICT (a) DO UPDATE SET b = 'y'",
+            "CREATE TABLE t (a INT PRIMARY KEY, b VARCHAR (10) NOT NULL)",
+            "MERGE INTO t USING u ON (t.a = u.a) WHEN MATCHED THEN UPDATE SET t.b = u.b"})
+    public void testParsedTwiceIsEqual(String sql) throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse(sql);
+        Statement again = CCJSqlParserUtil.parse(sql);
+
+        assertTrue(ModelFingerprint.equal(statement, again));
+        assertEquals(ModelFingerprint.of(statement), ModelFingerprint.of(again));
+        assertTrue(ModelFingerprint.equal(statement, ModelCopier.copy(statement)));
+        assertEquals(ModelFingerprint.of(statement),
+                ModelFingerprint.of(ModelCopier.copy(statement)));
+    }
+
+    @Test
+    public void testDifferentStatements() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = 1");
+        for (String sql : new String[] {"SELECT a FROM t WHERE b = 2",
+                "SELECT a FROM t WHERE c = 1", "SELECT a FROM u WHERE b = 1",
+                "SELECT a FROM t WHERE b = '1'", "SELECT a FROM t WHERE b > 1",
+                "SELECT a AS x FROM t WHERE b = 1", "SELECT a FROM t"}) {
+            Statement other = CCJSqlParserUtil.parse(sql);
+            assertFalse(ModelFingerprint.equal(statement, other), sql);
+            assertNotEquals(ModelFingerprint.of(statement), ModelFingerprint.of(other), sql);
+        }
+    }
+
+    @Test
+    public void testIgnoreLiterals() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = 1 AND c = 'x'");
+        Statement other = CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = 2 AND c = 'y'");
+
+        assertTrue(ModelFingerprint.equal(statement, other, true, false));
+        assertEquals(ModelFingerprint.of(statement, true, false),
+                ModelFingerprint.of(other, true, false));
+
+        // the kind of the literal still counts
+        other = CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = '2' AND c = 'y'");
+        assertFalse(ModelFingerprint.equal(statement, other, true, false));
+        assertNotEquals(ModelFingerprint.of(statement, true, false),
+                ModelFingerprint.of(other, true, false));
+    }
+
+    @Test
+    public void testIgnoreAliases() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse("SELECT a AS x FROM t u");
+        Statement other = CCJSqlParserUtil.parse("SELECT a FROM t");
+
+        assertFalse(ModelFingerprint.equal(statement, other));
+        assertTrue(ModelFingerprint.equal(statement, other, false, true));
+        assertEquals(ModelFingerprint.of(statement, false, true),
+                ModelFingerprint.of(other, false, true));
+    }
+
+    @Test
+    public void testLazyParsedPartsCompareByText() throws JSQLParserException {
+        String sql = "SELECT * FROM (SELECT a FROM t) x";
+        Statement statement =
+                CCJSqlParserUtil.parse(sql, parser -> parser.withLazyParsing(true));
+        Statement again = CCJSqlParserUtil.parse(sql, parser -> parser.withLazyParsing(true));
+
+        assertTrue(ModelFingerprint.equal(statement, again));
+        assertEquals(ModelFingerprint.of(statement), ModelFingerprint.of(again));
+        assertTrue(ModelFingerprint.equal(statement, ModelCopier.copy(statement)));
+    }
+}